@@ -0,0 +1,76 @@
+package com.attendify.backend.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson (de)serialisation of the DTOs with the same defaults Spring Boot applies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ParticipantDTO participant;
+    private EventDTO event;
+    private String participantJson;
+    private String eventJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        participant = new ParticipantDTO();
+        participant.setId(1L);
+        participant.setType("PERSON");
+        participant.setFirstName("John");
+        participant.setLastName("Doe");
+        participant.setPersonalCode("39005270891");
+        participant.setPaymentMethod("CARD");
+        participant.setEmail("john.doe@example.com");
+        participant.setPhone("+37212345678");
+
+        event = new EventDTO();
+        event.setId(1L);
+        event.setName("Tech Conference 2025");
+        event.setDateTime(Instant.parse("2025-06-01T09:00:00Z"));
+        event.setLocation("Tallinn Conference Center");
+        event.setStatus("ACTIVE");
+        event.setTotalParticipants(57);
+
+        participantJson = objectMapper.writeValueAsString(participant);
+        eventJson = objectMapper.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public byte[] writeParticipant() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(participant);
+    }
+
+    @Benchmark
+    public ParticipantDTO readParticipant() throws JsonProcessingException {
+        return objectMapper.readValue(participantJson, ParticipantDTO.class);
+    }
+
+    @Benchmark
+    public byte[] writeEvent() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public EventDTO readEvent() throws JsonProcessingException {
+        return objectMapper.readValue(eventJson, EventDTO.class);
+    }
+}
@@ -0,0 +1,92 @@
+package com.attendify.backend.mapper;
+
+import com.attendify.backend.domain.Company;
+import com.attendify.backend.domain.Event;
+import com.attendify.backend.domain.Participant;
+import com.attendify.backend.domain.Person;
+import com.attendify.backend.dto.EventDTO;
+import com.attendify.backend.dto.ParticipantDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO conversions done for every row of a list or export response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private final ParticipantMapper participantMapper = new ParticipantMapper();
+    private final EventMapper eventMapper = new EventMapper();
+
+    private Person person;
+    private Company company;
+    private ParticipantDTO personDto;
+    private Event event;
+    private EventDTO eventDto;
+
+    @Setup
+    public void setUp() {
+        person = new Person();
+        person.setId(1L);
+        person.setFirstName("John");
+        person.setLastName("Doe");
+        person.setPersonalCode("39005270891");
+        person.setEmail("john.doe@example.com");
+        person.setPaymentMethod(Participant.PaymentMethod.CARD);
+        person.setAdditionalInfo("Vegetarian");
+
+        company = new Company();
+        company.setId(2L);
+        company.setCompanyName("Tech Corp");
+        company.setRegistrationCode("12345678");
+        company.setParticipantCount(5);
+        company.setContactPerson("Jane Smith");
+        company.setPaymentMethod(Participant.PaymentMethod.BANK_TRANSFER);
+
+        personDto = participantMapper.toDto(person);
+
+        event = new Event();
+        event.setId(1L);
+        event.setName("Tech Conference 2025");
+        event.setDateTime(Instant.parse("2025-06-01T09:00:00Z"));
+        event.setLocation("Tallinn Conference Center");
+        event.setAdditionalInfo("Leading tech experts speaking");
+
+        eventDto = eventMapper.toDto(event);
+    }
+
+    @Benchmark
+    public ParticipantDTO personToDto() {
+        return participantMapper.toDto(person);
+    }
+
+    @Benchmark
+    public ParticipantDTO companyToDto() {
+        return participantMapper.toDto(company);
+    }
+
+    @Benchmark
+    public Participant personToEntity() {
+        return participantMapper.toEntity(personDto);
+    }
+
+    @Benchmark
+    public EventDTO eventToDto() {
+        return eventMapper.toDto(event);
+    }
+
+    @Benchmark
+    public Event eventToEntity() {
+        return eventMapper.toEntity(eventDto);
+    }
+}
@@ -0,0 +1,50 @@
+package com.attendify.backend.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Identifier validation run on every create, update and import row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdentifierValidatorBenchmark {
+
+    private String personalCode = "39005270891";
+    private String badChecksumCode = "39005270892";
+    private String registrationCode = "12345678";
+    private EstonianPersonalCodeValidator personalCodeConstraint;
+
+    @Setup
+    public void setUp() {
+        personalCodeConstraint = new EstonianPersonalCodeValidator();
+    }
+
+    @Benchmark
+    public String checkPersonalCode() {
+        return IdentifierValidator.checkPersonalCode(personalCode);
+    }
+
+    @Benchmark
+    public String checkPersonalCodeWithBadChecksum() {
+        return IdentifierValidator.checkPersonalCode(badChecksumCode);
+    }
+
+    @Benchmark
+    public String checkRegistrationCode() {
+        return IdentifierValidator.checkRegistrationCode(registrationCode);
+    }
+
+    @Benchmark
+    public boolean personalCodeConstraint() {
+        return personalCodeConstraint.isValid(personalCode, null);
+    }
+}
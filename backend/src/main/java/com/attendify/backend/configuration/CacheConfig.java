@@ -0,0 +1,31 @@
+package com.attendify.backend.configuration;
+
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String EVENTS = "events";
+
+    /**
+     * Caffeine caches whose evictions are deferred until the surrounding transaction commits,
+     * so a concurrent read cannot re-cache a row that is about to change.
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${attendify.cache.spec}") String spec) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCaffeineSpec(CaffeineSpec.parse(spec));
+        caffeineCacheManager.setCacheNames(List.of(EVENTS));
+        caffeineCacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,70 @@
+package com.attendify.backend.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Records an {@value #METRIC} timer for every public method of the controllers, services and
+ * the hand-written repositories, tagged by layer, class, method and exception. Spring Data
+ * repository interfaces are already timed by Boot as {@code spring.data.repository.invocations}.
+ * <p>
+ * Methods that hand back a {@link StreamingResponseBody} or a {@link ResponseBodyEmitter}
+ * such as an SSE stream return before their work is done, so a successful call to one is
+ * not recorded: the export or import it streams is timed by the service method it calls, and the
+ * whole exchange by {@code http.server.requests}.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodTimingAspect {
+    public static final String METRIC = "attendify.method";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * *(..)) && ("
+            + "within(com.attendify.backend.controller..*) || "
+            + "within(com.attendify.backend.service..*) || "
+            + "within(com.attendify.backend.repository..*))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            if (!isStreaming(result)) {
+                Class<?> type = joinPoint.getSignature().getDeclaringType();
+                sample.stop(Timer.builder(METRIC)
+                        .tag("layer", layer(type.getPackageName()))
+                        .tag("class", type.getSimpleName())
+                        .tag("method", joinPoint.getSignature().getName())
+                        .tag("exception", exception)
+                        .register(meterRegistry));
+            }
+        }
+    }
+
+    private static boolean isStreaming(Object result) {
+        Object body = result instanceof ResponseEntity<?> entity ? entity.getBody() : result;
+        return body instanceof StreamingResponseBody || body instanceof ResponseBodyEmitter;
+    }
+
+    private static String layer(String packageName) {
+        if (packageName.startsWith("com.attendify.backend.controller")) {
+            return "controller";
+        }
+        return packageName.startsWith("com.attendify.backend.service") ? "service" : "repository";
+    }
+}
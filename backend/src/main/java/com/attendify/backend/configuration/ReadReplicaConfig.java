@@ -0,0 +1,89 @@
+package com.attendify.backend.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Active when {@code attendify.datasource.replicas.urls} lists replica JDBC URLs (see the
+ * {@code replicas} profile). Replaces the auto-configured pool with a
+ * {@link ReplicaRoutingDataSource} over a primary pool and one pool per replica. Every pool
+ * takes the {@code spring.datasource.hikari} settings and reports {@code hikaricp.*} metrics
+ * tagged with its pool name: {@code primary}, {@code replica-1}, ...
+ * <p>
+ * On virtual threads each pool gets its own {@link ConcurrencyLimitedDataSource}, sized to that
+ * pool. A replica's limiter gives up after the replica's connection timeout, so a saturated
+ * replica still fails over to the next pool instead of queueing.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "attendify.datasource.replicas", name = "urls")
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${attendify.datasource.replicas.urls}") List<String> urls,
+            @Value("${attendify.datasource.replicas.maximum-pool-size:${spring.datasource.hikari.maximum-pool-size:10}}") int replicaPoolSize,
+            @Value("${attendify.datasource.replicas.connection-timeout:PT1S}") Duration replicaConnectionTimeout,
+            @Value("${attendify.db.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrency,
+            @Value("${attendify.db.acquire-timeout:PT2M}") Duration acquireTimeout) {
+        HikariDataSource primary = pool(properties, environment, meterRegistry, properties.determineUrl(), "primary");
+        List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = pool(properties, environment, meterRegistry, urls.get(i).trim(), "replica-" + (i + 1));
+            replica.setMaximumPoolSize(replicaPoolSize);
+            // Fail over to the next pool quickly instead of holding the request for the primary's timeout
+            replica.setConnectionTimeout(replicaConnectionTimeout.toMillis());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        Function<HikariDataSource, DataSource> connections = pool -> pool;
+        if (Threading.VIRTUAL.isActive(environment)) {
+            connections = pool -> pool.isReadOnly()
+                    ? new ConcurrencyLimitedDataSource(pool, pool.getMaximumPoolSize(), Duration.ofMillis(pool.getConnectionTimeout()))
+                    : new ConcurrencyLimitedDataSource(pool, maxConcurrency, acquireTimeout);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, connections);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            Clock clock,
+            @Value("${attendify.datasource.replicas.read-your-writes-window:PT5S}") Duration window) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(window, clock));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Environment environment,
+                                         MeterRegistry meterRegistry, String url, String name) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
@@ -0,0 +1,97 @@
+package com.attendify.backend.configuration;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Replica-lag guard for {@link ReplicaRoutingDataSource}. A request that may write (anything
+ * but GET, HEAD and OPTIONS) runs entirely on the primary and leaves the client a cookie that
+ * keeps its reads on the primary for {@code window}, long enough for the replicas to replay
+ * the write. The cookie travels with the client, so the guard holds across instances. Work
+ * handed to other threads, e.g. a {@code StreamingResponseBody}, is not pinned.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String COOKIE = "attendify-primary-until";
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    /**
+     * Whether read-only transactions on this thread must use the primary.
+     */
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    static void unpin() {
+        PINNED.remove();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean write = !isSafe(request.getMethod());
+        if (write) {
+            long until = clock.millis() + window.toMillis();
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, Long.toString(until))
+                    .path("/api")
+                    .maxAge(window)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        }
+        if (!write && !pinnedByCookie(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        pinToPrimary();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            unpin();
+        }
+    }
+
+    private boolean pinnedByCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > clock.millis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSafe(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+}
@@ -0,0 +1,83 @@
+package com.attendify.backend.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Sends read-only transactions to the replicas and everything else to the primary. The
+ * physical connection is only fetched at the first statement, after the transaction manager
+ * has marked the connection read-only, so the choice follows
+ * {@code @Transactional(readOnly = true)}, including the read methods of Spring Data
+ * repositories called outside a transaction.
+ * <p>
+ * Read-only connections go round-robin over the replica pools. They come from the primary
+ * instead while {@link ReadYourWritesFilter} pins the thread, or when no replica hands out a
+ * connection within its pool's connection timeout.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final DataSource primaryConnections;
+    private final List<DataSource> replicaConnections;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas) {
+        this(primary, replicas, pool -> pool);
+    }
+
+    /**
+     * @param connections wraps each pool before connections are taken from it, e.g. in its own
+     *                    {@link ConcurrencyLimitedDataSource}
+     */
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                    Function<HikariDataSource, DataSource> connections) {
+        super(connections.apply(primary));
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.primaryConnections = obtainTargetDataSource();
+        this.replicaConnections = this.replicas.stream().map(connections).toList();
+        setReadOnlyDataSource(new ReplicaDataSource());
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    private final class ReplicaDataSource extends AbstractDataSource {
+        private final AtomicInteger next = new AtomicInteger();
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (ReadYourWritesFilter.isPinnedToPrimary()) {
+                return primaryConnections.getConnection();
+            }
+            int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                int replica = (start + i) % replicas.size();
+                try {
+                    return replicaConnections.get(replica).getConnection();
+                } catch (SQLException e) {
+                    log.warn("No connection from {}, trying the next pool: {}", replicas.get(replica).getPoolName(), e.getMessage());
+                }
+            }
+            return primaryConnections.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLException("Replica connections use the configured credentials");
+        }
+    }
+}
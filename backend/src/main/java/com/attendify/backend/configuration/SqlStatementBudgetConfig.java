@@ -0,0 +1,52 @@
+package com.attendify.backend.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Routes the datasource through datasource-proxy so {@link SqlStatementCounter} sees every
+ * statement, and budgets the statements of each HTTP request with {@link SqlStatementBudgetFilter}.
+ */
+@Configuration
+public class SqlStatementBudgetConfig {
+
+    @Bean
+    public static SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingDataSource(SqlStatementCounter sqlStatementCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(sqlStatementCounter)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementBudgetFilter> sqlStatementBudgetFilter(
+            MeterRegistry meterRegistry,
+            @Value("${attendify.sql.budget.max-statements:20}") int maxStatements,
+            @Value("${attendify.sql.budget.max-repeated-selects:5}") int maxRepeatedSelects) {
+        FilterRegistrationBean<SqlStatementBudgetFilter> registration = new FilterRegistrationBean<>(
+                new SqlStatementBudgetFilter(meterRegistry, maxStatements, maxRepeatedSelects));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,80 @@
+package com.attendify.backend.configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements each request runs on its request thread, records them as
+ * {@value #STATEMENTS_METRIC} and warns about requests over the statement budget or repeating
+ * one SELECT often enough to look like an N+1. Statements run later on an async thread, e.g.
+ * by a {@code StreamingResponseBody}, are not attributed to the request.
+ */
+@Slf4j
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+    public static final String STATEMENTS_METRIC = "attendify.http.sql.statements";
+    public static final String EXCEEDED_METRIC = "attendify.http.sql.budget.exceeded";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final int maxRepeatedSelects;
+
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry, int maxStatements, int maxRepeatedSelects) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.maxRepeatedSelects = maxRepeatedSelects;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            check(request, SqlStatementCounter.stop());
+        }
+    }
+
+    private void check(HttpServletRequest request, SqlStatementCounter.Counts counts) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        int total = counts.getTotal();
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(total);
+
+        if (total > maxStatements) {
+            log.warn("{} {} executed {} SQL statements, over the budget of {}: {}",
+                    request.getMethod(), request.getRequestURI(), total, maxStatements, counts);
+            exceeded(request, uri, "budget");
+        }
+        Map.Entry<String, Integer> repeated = counts.getMostRepeatedSelect();
+        if (repeated != null && repeated.getValue() > maxRepeatedSelects) {
+            log.warn("Possible N+1 in {} {}: the same select ran {} times: {}",
+                    request.getMethod(), request.getRequestURI(), repeated.getValue(), repeated.getKey());
+            exceeded(request, uri, "repeated-select");
+        }
+    }
+
+    private void exceeded(HttpServletRequest request, String uri, String reason) {
+        Counter.builder(EXCEEDED_METRIC)
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
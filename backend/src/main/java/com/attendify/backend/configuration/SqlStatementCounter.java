@@ -0,0 +1,104 @@
+package com.attendify.backend.configuration;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the SQL statements executed on the current thread between {@link #start()} and
+ * {@link #stop()}, by type and by identical SELECT text. Threads that have not started
+ * counting pay only a thread-local lookup per statement. Every execution on any thread is
+ * also added to {@link #getExecutedCount()}; a JDBC batch counts once per distinct query.
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder executed = new LongAdder();
+
+    public static Counts start() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    public static Counts stop() {
+        Counts counts = current();
+        CURRENT.remove();
+        return counts;
+    }
+
+    /**
+     * The counts of the current thread, empty if it is not counting.
+     */
+    public static Counts current() {
+        Counts counts = CURRENT.get();
+        return counts != null ? counts : new Counts();
+    }
+
+    /**
+     * Statements executed through the datasources this listener observes since startup, on all threads.
+     */
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        executed.add(queryInfoList.size());
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                counts.record(queryInfo.getQuery());
+            }
+        }
+    }
+
+    public static final class Counts {
+        private final Map<QueryType, Integer> byType = new EnumMap<>(QueryType.class);
+        private final Map<String, Integer> selects = new HashMap<>();
+
+        private void record(String query) {
+            QueryType type = QueryUtils.getQueryType(query);
+            byType.merge(type, 1, Integer::sum);
+            if (type == QueryType.SELECT) {
+                selects.merge(query, 1, Integer::sum);
+            }
+        }
+
+        public int getTotal() {
+            return byType.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        public int get(QueryType type) {
+            return byType.getOrDefault(type, 0);
+        }
+
+        /**
+         * The SELECT run most often with identical SQL text, which for an N+1 pattern is the
+         * per-row lazy load; {@code null} if there were no selects.
+         */
+        public Map.Entry<String, Integer> getMostRepeatedSelect() {
+            return selects.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .orElse(null);
+        }
+
+        @Override
+        public String toString() {
+            return Collections.unmodifiableMap(byType).toString();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.attendify.backend.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Active when {@code spring.threads.virtual.enabled=true} (see the {@code virtual-threads}
+ * profile). Boot then runs Tomcat requests, {@code @Async} and {@code @Scheduled} work on
+ * virtual threads; this adds the limiter that keeps them from overrunning the pool.
+ * <p>
+ * Only connection pools are limited, before any other wrapping. The pools behind a
+ * {@link ReplicaRoutingDataSource} are not beans; {@link ReadReplicaConfig} limits each of them.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Declared as {@link PoolLimiter} so the container sees it is {@link Ordered} before creating it.
+     */
+    @Bean
+    public static PoolLimiter databaseConcurrencyLimiter(
+            @Value("${attendify.db.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrency,
+            @Value("${attendify.db.acquire-timeout:PT2M}") Duration acquireTimeout) {
+        return new PoolLimiter(maxConcurrency, acquireTimeout);
+    }
+
+    record PoolLimiter(int maxConcurrency, Duration acquireTimeout) implements BeanPostProcessor, Ordered {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource pool) {
+                return new ConcurrencyLimitedDataSource(pool, maxConcurrency, acquireTimeout);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.attendify.backend.controller;
+
+import com.attendify.backend.dto.AttendanceCountsDTO;
+import com.attendify.backend.dto.AttendanceResultDTO;
+import com.attendify.backend.dto.AttendanceUpdateDTO;
+import com.attendify.backend.dto.CheckInRequestDTO;
+import com.attendify.backend.dto.CheckInResultDTO;
+import com.attendify.backend.service.CheckInService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+@Tag(name = "Check-in", description = "APIs for checking participants in at the door and marking attendance.")
+public class CheckInController {
+    private final CheckInService checkInService;
+
+    @Operation(summary = "Check in a scanned badge", description = "Marks the registration the personal or registration code belongs to as ATTENDED "
+            + "and returns the event's live counts. Scanning an already checked-in badge is not an error.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Scan processed",
+                    content = @Content(schema = @Schema(implementation = CheckInResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Missing code"),
+            @ApiResponse(responseCode = "404", description = "Event not found or no registration with the code")
+    })
+    @PostMapping("/{eventId}/check-ins")
+    public CheckInResultDTO checkIn(
+            @Parameter(description = "ID of the event", example = "1") @PathVariable Long eventId,
+            @Valid @RequestBody CheckInRequestDTO request) {
+        return checkInService.checkIn(eventId, request.getCode());
+    }
+
+    @Operation(summary = "Get check-in counts", description = "Returns how many registrations of the event are active and how many participants have checked in.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Counts retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = AttendanceCountsDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Event not found")
+    })
+    @GetMapping("/{eventId}/check-ins")
+    public AttendanceCountsDTO getCounts(
+            @Parameter(description = "ID of the event", example = "1") @PathVariable Long eventId) {
+        return checkInService.getCounts(eventId);
+    }
+
+    @Operation(summary = "Set a participant's attendance", description = "Sets the attendance status of one registration.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Attendance updated",
+                    content = @Content(schema = @Schema(implementation = AttendanceResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid attendance status"),
+            @ApiResponse(responseCode = "404", description = "Participant not registered to the event")
+    })
+    @PatchMapping("/{eventId}/participants/{participantId}/attendance")
+    public AttendanceResultDTO updateAttendance(
+            @Parameter(description = "ID of the event", example = "1") @PathVariable Long eventId,
+            @Parameter(description = "ID of the participant", example = "1") @PathVariable Long participantId,
+            @RequestBody @Schema(description = "New attendance status; the participant ID is taken from the path") AttendanceUpdateDTO update) {
+        return checkInService.updateAttendance(eventId, participantId, update.getStatus());
+    }
+
+    @Operation(summary = "Set attendance in bulk", description = "Sets the attendance status of many registrations in a single statement. Returns one result per request row; "
+            + "rows that cannot be applied are reported rather than failing the whole batch.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Batch processed",
+                    content = @Content(schema = @Schema(implementation = AttendanceResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+    })
+    @PatchMapping("/{eventId}/attendance:batch")
+    public List<AttendanceResultDTO> updateAttendance(
+            @Parameter(description = "ID of the event", example = "1") @PathVariable Long eventId,
+            @RequestBody @Schema(description = "Participants and their new attendance status") List<AttendanceUpdateDTO> updates) {
+        return checkInService.updateAttendance(eventId, updates);
+    }
+}
@@ -0,0 +1,62 @@
+package com.attendify.backend.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Validators for conditional GETs. ETags are weak: equal tags mean the same data, not
+ * byte-identical JSON. Responses carry {@code no-cache}, so clients revalidate every time
+ * instead of trusting a heuristic freshness derived from {@code Last-Modified}.
+ */
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    static String etag(String version) {
+        return "W/\"" + version + "\"";
+    }
+
+    /**
+     * Versions a row by its {@code updated_at}, at the database's microsecond precision so that
+     * an entity still holding the nanoseconds it was saved with gets the same tag.
+     */
+    static String etag(Instant updatedAt) {
+        return etag(Long.toHexString(ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt)));
+    }
+
+    /**
+     * Whether the client's copy of a row last changed at {@code updatedAt} is current; if so the
+     * response is already a 304 and the handler should return {@code null}.
+     */
+    static boolean notModified(WebRequest request, Instant updatedAt) {
+        return request.checkNotModified(etag(updatedAt), updatedAt.toEpochMilli());
+    }
+
+    static boolean notModified(WebRequest request, String version) {
+        return request.checkNotModified(etag(version));
+    }
+
+    /**
+     * A 200 validated by the state the body was built from, which may be older than the state
+     * a preceding {@link #notModified} check saw.
+     */
+    static <T> ResponseEntity<T> ok(T body, Instant updatedAt) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag(updatedAt))
+                .lastModified(updatedAt)
+                .body(body);
+    }
+
+    static <T> ResponseEntity<T> ok(T body, String version) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag(version))
+                .body(body);
+    }
+}
@@ -2,12 +2,15 @@
 package com.attendify.backend.controller;
 
 import com.attendify.backend.domain.Event;
+import com.attendify.backend.dto.EventAttendeeDTO;
 import com.attendify.backend.dto.EventDTO;
 import com.attendify.backend.dto.ParticipantDTO;
+import com.attendify.backend.dto.RegistrationResultDTO;
 import com.attendify.backend.mapper.EventMapper;
-import com.attendify.backend.mapper.ParticipantMapper;
+import com.attendify.backend.service.EventAttendeeExportService;
 import com.attendify.backend.service.EventParticipantService;
 import com.attendify.backend.service.EventService;
+import com.attendify.backend.service.EventTimeline;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,14 +20,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
     @RestController
     @RequestMapping("/api/events")
@@ -33,39 +45,51 @@ import java.util.Map;
     public class EventController {
         private final EventService eventService;
         private final EventMapper eventMapper;
-        private final ParticipantMapper participantMapper;
         private final EventParticipantService eventParticipantService;
+        private final EventAttendeeExportService eventAttendeeExportService;
+        private final EventTimeline eventTimeline;
 
-        @Operation(summary = "Retrieve all events", description = "Fetches a list of all future and past events.")
+        @Operation(summary = "Retrieve all events", description = "Fetches a page of future events (soonest first) and a page of past events (most recent first). "
+                + "Supports If-None-Match with the returned ETag.")
         @ApiResponses({
                 @ApiResponse(responseCode = "200", description = "Successfully retrieved events",
-                        content = @Content(schema = @Schema(implementation = Map.class)))
+                        content = @Content(schema = @Schema(implementation = Map.class))),
+                @ApiResponse(responseCode = "304", description = "No event changed since the given ETag")
         })
         @GetMapping
-        @Transactional(readOnly = true)
-        public ResponseEntity<Map<String, List<EventDTO>>> getAllEvents() {
+        public ResponseEntity<Map<String, List<EventDTO>>> getAllEvents(
+                @Parameter(description = "Page number applied to both lists", example = "0") @RequestParam(defaultValue = "0") int page,
+                @Parameter(description = "Maximum number of events in each list", example = "100") @RequestParam(defaultValue = "100") int size,
+                WebRequest request) {
+            String version = eventTimeline.getVersion();
+            if (ConditionalResponses.notModified(request, version)) {
+                return null;
+            }
             Map<String, List<EventDTO>> response = new HashMap<>();
-            response.put("futureEvents", eventService.getFutureEvents().stream()
-                    .map(eventMapper::toDto)
-                    .toList());
-            response.put("pastEvents", eventService.getPastEvents().stream()
-                    .map(eventMapper::toDto)
-                    .toList());
-            return ResponseEntity.ok(response);
+            response.put("futureEvents", eventTimeline.getFutureEvents(page, size));
+            response.put("pastEvents", eventTimeline.getPastEvents(page, size));
+            return ConditionalResponses.ok(response, version);
         }
 
-        @Operation(summary = "Retrieve an event by ID", description = "Fetches a specific event by its ID.")
+        @Operation(summary = "Retrieve an event by ID", description = "Fetches a specific event by its ID. "
+                + "Supports If-None-Match and If-Modified-Since; registrations count as changes.")
         @ApiResponses({
                 @ApiResponse(responseCode = "200", description = "Successfully retrieved event",
                         content = @Content(schema = @Schema(implementation = EventDTO.class))),
+                @ApiResponse(responseCode = "304", description = "Event not modified"),
                 @ApiResponse(responseCode = "404", description = "Event not found")
         })
         @GetMapping("/{id}")
         @Transactional(readOnly = true)
         public ResponseEntity<EventDTO> getEventById(
-                @Parameter(description = "ID of the event", example = "1") @PathVariable Long id) {
-            Event event = eventService.getEventById(id);
-            return ResponseEntity.ok(eventMapper.toDto(event));
+                @Parameter(description = "ID of the event", example = "1") @PathVariable Long id,
+                WebRequest request) {
+            Optional<Instant> lastModified = eventService.getLastModified(id);
+            if (lastModified.isPresent() && ConditionalResponses.notModified(request, lastModified.get())) {
+                return null;
+            }
+            EventDTO event = eventService.getEventById(id);
+            return ConditionalResponses.ok(event, event.getUpdatedAt().toInstant());
         }
 
         @Operation(summary = "Create a new event", description = "Creates a new event with the provided details.")
@@ -123,11 +147,41 @@ import java.util.Map;
         @Transactional(readOnly = true)
         public ResponseEntity<List<ParticipantDTO>> getEventParticipants(
                 @Parameter(description = "ID of the event", example = "1") @PathVariable Long id) {
-            Event event = eventService.getEventById(id);
-            List<ParticipantDTO> participants = event.getParticipants().stream()
-                    .map(participantMapper::toDto)
-                    .toList();
-            return ResponseEntity.ok(participants);
+            return ResponseEntity.ok(eventParticipantService.getEventParticipants(id));
+        }
+
+        @Operation(summary = "Retrieve a page of attendees for an event", description = "Fetches a page of participants registered for a specific event, including their attendance status and registration time, ordered by registration time.")
+        @ApiResponses({
+                @ApiResponse(responseCode = "200", description = "Successfully retrieved attendees",
+                        content = @Content(schema = @Schema(implementation = EventAttendeeDTO.class))),
+                @ApiResponse(responseCode = "404", description = "Event not found")
+        })
+        @GetMapping("/{id}/attendees")
+        public Page<EventAttendeeDTO> getEventAttendees(
+                @Parameter(description = "ID of the event", example = "1") @PathVariable Long id,
+                @RequestParam(defaultValue = "0") int page,
+                @RequestParam(defaultValue = "20") int size) {
+            return eventParticipantService.getEventAttendees(id, PageRequest.of(page, size));
+        }
+
+        @Operation(summary = "Export participants of an event", description = "Streams all participants registered for a specific event as a JSON array or CSV file, reading them through a database cursor.")
+        @ApiResponses({
+                @ApiResponse(responseCode = "200", description = "Participant export streamed"),
+                @ApiResponse(responseCode = "404", description = "Event not found")
+        })
+        @GetMapping("/{id}/participants/export")
+        public ResponseEntity<StreamingResponseBody> exportEventParticipants(
+                @Parameter(description = "ID of the event", example = "1") @PathVariable Long id,
+                @Parameter(description = "Export format", example = "CSV") @RequestParam(defaultValue = "JSON") EventAttendeeExportService.Format format) {
+            eventService.getEventById(id);
+            StreamingResponseBody body = output -> eventAttendeeExportService.exportAttendees(id, format, output);
+            boolean csv = format == EventAttendeeExportService.Format.CSV;
+            return ResponseEntity.ok()
+                    .contentType(csv ? MediaType.parseMediaType("text/csv") : MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename("event-" + id + "-participants." + (csv ? "csv" : "json"))
+                            .build().toString())
+                    .body(body);
         }
 
         @Operation(summary = "Add participant to an event", description = "Adds a new or existing participant to the specified event. If participant ID is provided, associates the existing participant; otherwise, creates a new participant.")
@@ -146,6 +200,19 @@ import java.util.Map;
             return ResponseEntity.status(HttpStatus.CREATED).body(addedParticipant);
         }
 
+        @Operation(summary = "Register participants to an event in bulk", description = "Registers existing participants to the specified event in a single transaction. Returns one result per request row; rows that cannot be registered are reported rather than failing the whole batch.")
+        @ApiResponses({
+                @ApiResponse(responseCode = "200", description = "Batch processed",
+                        content = @Content(schema = @Schema(implementation = RegistrationResultDTO.class))),
+                @ApiResponse(responseCode = "400", description = "Empty or oversized batch, or event not found")
+        })
+        @PostMapping("/{eventId}/participants:batch")
+        public ResponseEntity<List<RegistrationResultDTO>> addParticipantsToEvent(
+                @Parameter(description = "ID of the event", example = "1") @PathVariable Long eventId,
+                @RequestBody @Schema(description = "Participants to register; only the ID is used") List<ParticipantDTO> participantDTOs) {
+            return ResponseEntity.ok(eventParticipantService.addParticipantsToEvent(eventId, participantDTOs));
+        }
+
         @Operation(summary = "Remove participant from an event", description = "Removes a participant from the specified event.")
         @ApiResponses({
                 @ApiResponse(responseCode = "204", description = "Participant removed successfully"),
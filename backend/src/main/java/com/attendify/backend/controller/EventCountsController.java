@@ -0,0 +1,53 @@
+package com.attendify.backend.controller;
+
+import com.attendify.backend.dto.EventCountsDTO;
+import com.attendify.backend.service.EventCountsBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+@Tag(name = "Live Counts", description = "Server-Sent Events streams of event registration and attendance counts.")
+public class EventCountsController {
+    private final EventCountsBroadcaster eventCountsBroadcaster;
+
+    @Operation(summary = "Stream event counts", description = "Opens a Server-Sent Events stream. Each 'counts' event carries the current counts of the events that changed, "
+            + "at most once per flush interval. Without 'ids' every event is followed and no initial counts are sent. "
+            + "A 'resync' event means changes may have been missed and the client should reload.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = EventCountsDTO.class))),
+            @ApiResponse(responseCode = "404", description = "None of the given events exist")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCounts(
+            @Parameter(description = "IDs of the events to follow; starts with their current counts", example = "1,2")
+            @RequestParam(required = false) List<Long> ids) {
+        return eventCountsBroadcaster.subscribe(ids == null || ids.isEmpty() ? null : Set.copyOf(ids));
+    }
+
+    @Operation(summary = "Stream an event's counts", description = "Opens a Server-Sent Events stream of one event's counts, starting with the current ones.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = EventCountsDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Event not found")
+    })
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEventCounts(
+            @Parameter(description = "ID of the event", example = "1") @PathVariable Long id) {
+        return eventCountsBroadcaster.subscribe(Set.of(id));
+    }
+}
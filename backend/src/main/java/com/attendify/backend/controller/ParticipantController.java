@@ -2,8 +2,12 @@ package com.attendify.backend.controller;
 
 import com.attendify.backend.domain.Participant;
 import com.attendify.backend.dto.ParticipantDTO;
+import com.attendify.backend.dto.ParticipantEventDTO;
+import com.attendify.backend.dto.ParticipantImportEventDTO;
 import com.attendify.backend.mapper.ParticipantMapper;
+import com.attendify.backend.service.ParticipantImportService;
 import com.attendify.backend.service.ParticipantService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,14 +15,26 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/participants")
@@ -27,20 +43,31 @@ import org.springframework.web.bind.annotation.*;
 public class ParticipantController {
     private final ParticipantService participantService;
     private final ParticipantMapper participantMapper;
+    private final ParticipantImportService participantImportService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    @Operation(summary = "Get participants", description = "Retrieves a paginated list of participants, optionally filtered by query, type, and field.")
+    @Operation(summary = "Get participants", description = "Retrieves a paginated list of participants, optionally filtered by query, type, and field. "
+            + "Passing 'after' (empty for the first slice) switches to cursor pagination, which returns a slice with a 'nextCursor' and no total count.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Participants retrieved successfully",
                     content = @Content(schema = @Schema(implementation = Participant.class))),
             @ApiResponse(responseCode = "400", description = "Invalid query parameters")
     })
-    public Page<Participant> getParticipants(
+    public Slice<Participant> getParticipants(
             @RequestParam(required = false) String query,
             @RequestParam(required = false) String type,
             @RequestParam(required = false) String field,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Cursor from the previous slice's 'nextCursor'; empty for the first slice")
+            @RequestParam(required = false) String after) {
+        if (after != null) {
+            if (query != null && !query.isEmpty()) {
+                throw new IllegalArgumentException("Cursor pagination is not supported for search queries");
+            }
+            return participantService.getParticipantsAfter(after, size);
+        }
         Pageable pageable = PageRequest.of(page, size);
         return participantService.searchParticipants(query, type, field, pageable);
     }
@@ -61,6 +88,35 @@ public class ParticipantController {
                 .body(participantMapper.toDto(createdParticipant));
     }
 
+    @Operation(summary = "Import participants", description = "Streams participants from a CSV (with a header row of ParticipantDTO field names) or NDJSON upload. "
+            + "Records are validated and written in chunks; the response is an NDJSON stream of REJECTED and PROGRESS lines ending with a COMPLETED or FAILED summary.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import started; progress is streamed",
+                    content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = ParticipantImportEventDTO.class))),
+            @ApiResponse(responseCode = "415", description = "Unsupported upload format")
+    })
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"}, produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> importParticipants(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            HttpServletRequest request) throws IOException {
+        ParticipantImportService.Format format = contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? ParticipantImportService.Format.CSV
+                : ParticipantImportService.Format.NDJSON;
+        InputStream input = request.getInputStream();
+        StreamingResponseBody body = output -> participantImportService.importParticipants(input, format, event -> {
+            try {
+                output.write(objectMapper.writeValueAsBytes(event));
+                output.write('\n');
+                output.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @Operation(summary = "Update a participant", description = "Updates an existing participant (person or company) with the provided details.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Participant updated successfully",
@@ -78,18 +134,45 @@ public class ParticipantController {
     }
 
     @Operation(summary = "Retrieve a participant by ID",
-            description = "Fetches detailed information about a specific participant (person or company)")
+            description = "Fetches detailed information about a specific participant (person or company). "
+                    + "Supports If-None-Match and If-Modified-Since.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successfully retrieved participant",
                     content = @Content(schema = @Schema(implementation = ParticipantDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Participant not modified"),
             @ApiResponse(responseCode = "404", description = "Participant not found")
     })
     @GetMapping("/{id}")
     public ResponseEntity<ParticipantDTO> getParticipant(
             @Parameter(description = "ID of the participant to retrieve", example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest request) {
+        Optional<Instant> lastModified = participantService.getLastModified(id);
+        if (lastModified.isPresent() && ConditionalResponses.notModified(request, lastModified.get())) {
+            return null;
+        }
         Participant participant = participantService.getParticipantById(id);
-        return ResponseEntity.ok(participantMapper.toDto(participant));
+        return ConditionalResponses.ok(participantMapper.toDto(participant), participant.getUpdatedAt());
+    }
+
+    @Operation(summary = "Get a participant's events", description = "Retrieves a page of the events a participant is registered for, newest registration first, "
+            + "optionally filtered by attendance status and by whether the event is past or upcoming.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = ParticipantEventDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid attendance status or 'when'"),
+            @ApiResponse(responseCode = "404", description = "Participant not found")
+    })
+    @GetMapping("/{id}/events")
+    public Page<ParticipantEventDTO> getParticipantEvents(
+            @Parameter(description = "ID of the participant", example = "1") @PathVariable Long id,
+            @Parameter(description = "Attendance status to filter by", example = "REGISTERED")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "past, upcoming or all", example = "upcoming")
+            @RequestParam(defaultValue = "all") String when,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return participantService.getParticipantEvents(id, status, when, PageRequest.of(page, size));
     }
 
     @Operation(summary = "Delete a participant", description = "Deletes a participant (person or company) by their ID.")
@@ -1,5 +1,6 @@
 package com.attendify.backend.domain;
 
+import com.attendify.backend.validation.RegistrationCode;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -21,7 +22,7 @@ public class Company extends Participant {
     private String companyName;
 
     @NotBlank(message = "Registration code cannot be empty")
-    @Size(max = 8, message = "Registration code must not exceed 8 characters")
+    @RegistrationCode
     @Column(name = "registration_code", nullable = false, length = 8, unique = true)
     private String registrationCode;
 
@@ -22,7 +22,7 @@ public class Event {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_id_seq")
-    @SequenceGenerator(name = "events_id_seq", sequenceName = "events_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "events_id_seq", sequenceName = "events_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -39,8 +39,12 @@ public class Event {
     @Column(name = "additional_info", length = 1500)
     private String additionalInfo;
 
-    @Column(name = "total_participants")
-    private Integer totalParticipants;
+    // Seats available; null for unlimited. Enforced by the event_participant insert trigger
+    private Integer capacity;
+
+    // Maintained by the event_participant counter triggers, never written by Hibernate
+    @Column(name = "total_participants", insertable = false, updatable = false)
+    private Integer totalParticipants = 0;
 
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
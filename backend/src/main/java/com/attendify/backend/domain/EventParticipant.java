@@ -29,6 +29,17 @@ public class EventParticipant {
     @Column(name = "registered_at", nullable = false, updatable = false)
     private Instant registeredAt = Instant.now();
 
+    // Partition key: a copy of the event's date_time, kept equal by the foreign key to events
+    @Column(name = "event_date_time", nullable = false, updatable = false)
+    private Instant eventDateTime;
+
+    @PrePersist
+    void copyEventDateTime() {
+        if (eventDateTime == null && event != null) {
+            eventDateTime = event.getDateTime();
+        }
+    }
+
     public enum AttendanceStatus {
         REGISTERED, ATTENDED, CANCELLED
     }
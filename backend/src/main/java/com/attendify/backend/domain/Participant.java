@@ -4,20 +4,31 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
 
+// Second-level cached for the whole hierarchy: Person and Company rows live in this region too
 @Entity
 @Table(name = "participants")
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "participant_type")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Participant.CACHE_REGION)
 @Data
 @NoArgsConstructor
 public abstract class Participant {
+    public static final String CACHE_REGION = "participants";
+    /** Must match the increment of {@code participants_id_seq}; each nextval reserves this many ids. */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participants_id_seq")
+    @SequenceGenerator(name = "participants_id_seq", sequenceName = "participants_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -1,9 +1,9 @@
 package com.attendify.backend.domain;
 
+import com.attendify.backend.validation.EstonianPersonalCode;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -27,7 +27,7 @@ public class Person extends Participant {
     private String lastName;
 
     @NotBlank(message = "Personal code cannot be empty")
-    @Pattern(regexp = "^[0-6]\\d{10}$", message = "Personal code must be an 11-digit Estonian isikukood")
+    @EstonianPersonalCode
     @Column(name = "personal_code", nullable = false, length = 11, unique = true)
     private String personalCode;
 
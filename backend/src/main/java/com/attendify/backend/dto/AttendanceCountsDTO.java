@@ -0,0 +1,21 @@
+package com.attendify.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Live check-in counts of an event.")
+public class AttendanceCountsDTO {
+    @Schema(description = "ID of the event.", example = "1")
+    private Long eventId;
+
+    @Schema(description = "Registrations of the event that are not cancelled.", example = "150")
+    private int registered;
+
+    @Schema(description = "Participants checked in to the event.", example = "120")
+    private int attended;
+}
@@ -0,0 +1,31 @@
+package com.attendify.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of setting the attendance status of one registration.")
+public class AttendanceResultDTO {
+    @Schema(description = "ID of the participant from the request row.", example = "1")
+    private Long participantId;
+
+    @Schema(description = "Attendance status before the update.", example = "REGISTERED")
+    private String previousStatus;
+
+    @Schema(description = "Attendance status after the update.", example = "ATTENDED")
+    private String attendanceStatus;
+
+    @Schema(description = "Outcome of the row.", example = "UPDATED")
+    private Status status;
+
+    @Schema(description = "Reason the row was not updated.", example = "Participant not registered to event")
+    private String message;
+
+    public enum Status {
+        UPDATED, UNCHANGED, NOT_REGISTERED, INVALID
+    }
+}
@@ -0,0 +1,18 @@
+package com.attendify.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "New attendance status of a registration.")
+public class AttendanceUpdateDTO {
+    @Schema(description = "ID of the participant; taken from the path for single updates.", example = "1")
+    private Long participantId;
+
+    @Schema(description = "Attendance status to set.", example = "ATTENDED", allowableValues = {"REGISTERED", "ATTENDED", "CANCELLED"})
+    private String status;
+}
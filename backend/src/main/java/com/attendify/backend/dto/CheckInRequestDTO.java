@@ -0,0 +1,17 @@
+package com.attendify.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A badge scanned at the door.")
+public class CheckInRequestDTO {
+    @NotBlank
+    @Schema(description = "Personal code of a person or registration code of a company.", example = "39001010008")
+    private String code;
+}
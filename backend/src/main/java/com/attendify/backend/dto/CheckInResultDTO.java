@@ -0,0 +1,31 @@
+package com.attendify.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a door scan, with the event's live counts.")
+public class CheckInResultDTO {
+    @Schema(description = "ID of the participant the code belongs to.", example = "1")
+    private Long participantId;
+
+    @Schema(description = "Name of the person or company.", example = "Mari Maasikas")
+    private String name;
+
+    @Schema(description = "Outcome of the scan.", example = "CHECKED_IN")
+    private Status status;
+
+    @Schema(description = "Participants checked in to the event.", example = "120")
+    private int attended;
+
+    @Schema(description = "Registrations of the event that are not cancelled.", example = "150")
+    private int registered;
+
+    public enum Status {
+        CHECKED_IN, ALREADY_CHECKED_IN, CANCELLED
+    }
+}
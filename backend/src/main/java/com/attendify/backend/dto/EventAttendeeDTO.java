@@ -0,0 +1,20 @@
+package com.attendify.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@EqualsAndHashCode(callSuper = true)
+@Data
+@NoArgsConstructor
+@Schema(description = "A participant together with their registration details for one event.")
+public class EventAttendeeDTO extends ParticipantDTO {
+    @Schema(description = "Attendance status of the registration.", example = "REGISTERED", allowableValues = {"REGISTERED", "ATTENDED", "CANCELLED"})
+    private String attendanceStatus;
+
+    @Schema(description = "Time the participant was registered to the event.", example = "2025-01-01T10:00:00Z")
+    private Instant registeredAt;
+}
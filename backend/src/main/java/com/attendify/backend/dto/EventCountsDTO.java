@@ -0,0 +1,27 @@
+package com.attendify.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Current registration and attendance counts of an event, as pushed on the live stream.")
+public class EventCountsDTO {
+    @Schema(description = "ID of the event.", example = "1")
+    private Long eventId;
+
+    @Schema(description = "Maximum number of seats, or null when unlimited.", example = "200")
+    private Integer capacity;
+
+    @Schema(description = "Seats taken by the registrations; a company takes one per attending employee.", example = "150")
+    private int totalParticipants;
+
+    @Schema(description = "Registrations that are not cancelled.", example = "120")
+    private int registered;
+
+    @Schema(description = "Participants checked in to the event.", example = "80")
+    private int attended;
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -41,6 +42,10 @@ public class EventDTO {
     @Schema(description = "Additional information about the event", example = "Leading tech experts speaking")
     private String additionalInfo;
 
+    @Positive(message = "Event capacity must be positive")
+    @Schema(description = "Maximum number of seats, omitted for unlimited", example = "200")
+    private Integer capacity;
+
     @Schema(description = "Number of total participants of the event", example = "57")
     private Integer totalParticipants;
 
@@ -0,0 +1,48 @@
+package com.attendify.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * A {@link Slice} fetched by keyset (seek) pagination. Carries the opaque cursor that
+ * continues after the last element, so clients never page by offset.
+ */
+public class KeysetSlice<T> extends SliceImpl<T> {
+
+    private final String nextCursor;
+
+    public KeysetSlice(List<T> content, Pageable pageable, boolean hasNext, Long lastKey) {
+        super(content, pageable, hasNext);
+        this.nextCursor = hasNext && lastKey != null ? encodeCursor(lastKey) : null;
+    }
+
+    @Schema(description = "Opaque cursor to pass as 'after' for the next slice, null on the last slice.")
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public static String encodeCursor(long key) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the key encoded in {@code cursor}, or {@code null} for an empty cursor (first slice)
+     */
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.attendify.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@Schema(description = "An event a participant is registered for, together with the registration details.")
+public class ParticipantEventDTO {
+    @Schema(description = "ID of the event.", example = "1")
+    private Long eventId;
+
+    @Schema(description = "Name of the event.", example = "Tech Conference 2025")
+    private String name;
+
+    @Schema(description = "Date and time of the event.", example = "2025-06-15T09:00:00Z")
+    private Instant dateTime;
+
+    @Schema(description = "Location of the event.", example = "Tallinn")
+    private String location;
+
+    @Schema(description = "Status of the event.", example = "ACTIVE")
+    private String status;
+
+    @Schema(description = "Attendance status of the registration.", example = "REGISTERED", allowableValues = {"REGISTERED", "ATTENDED", "CANCELLED"})
+    private String attendanceStatus;
+
+    @Schema(description = "Time the participant was registered to the event.", example = "2025-01-01T10:00:00Z")
+    private Instant registeredAt;
+}
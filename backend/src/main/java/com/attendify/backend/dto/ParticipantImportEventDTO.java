@@ -0,0 +1,36 @@
+package com.attendify.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "One line of the NDJSON progress stream returned by a participant import.")
+public class ParticipantImportEventDTO {
+    @Schema(description = "Kind of event.", example = "PROGRESS")
+    private Type type;
+
+    @Schema(description = "1-based record number in the upload (REJECTED only).", example = "42")
+    private Long record;
+
+    @Schema(description = "Reason the record was rejected, or the error that stopped the import.")
+    private String message;
+
+    @Schema(description = "Records read so far.", example = "5000")
+    private long processed;
+
+    @Schema(description = "Records imported so far.", example = "4990")
+    private long imported;
+
+    @Schema(description = "Records rejected so far.", example = "10")
+    private long rejected;
+
+    public enum Type {
+        PROGRESS, REJECTED, COMPLETED, FAILED
+    }
+}
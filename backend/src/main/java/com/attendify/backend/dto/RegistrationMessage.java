@@ -0,0 +1,14 @@
+package com.attendify.backend.dto;
+
+import java.time.Instant;
+
+/**
+ * A registration change read back from the outbox. {@code attempts} counts this delivery.
+ */
+public record RegistrationMessage(long id, Type type, long eventId, long participantId, int attempts,
+                                  Instant createdAt) {
+
+    public enum Type {
+        REGISTERED, UNREGISTERED
+    }
+}
@@ -0,0 +1,25 @@
+package com.attendify.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of registering one participant in a batch registration.")
+public class RegistrationResultDTO {
+    @Schema(description = "ID of the participant from the request row.", example = "1")
+    private Long participantId;
+
+    @Schema(description = "Outcome of the row.", example = "REGISTERED")
+    private Status status;
+
+    @Schema(description = "Reason the row was not registered.", example = "Participant not found")
+    private String message;
+
+    public enum Status {
+        REGISTERED, ALREADY_REGISTERED, NOT_FOUND, INVALID, EVENT_FULL
+    }
+}
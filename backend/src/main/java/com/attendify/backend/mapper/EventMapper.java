@@ -2,6 +2,8 @@ package com.attendify.backend.mapper;
 
 import com.attendify.backend.domain.Event;
 import com.attendify.backend.dto.EventDTO;
+import com.attendify.backend.dto.ParticipantEventDTO;
+import com.attendify.backend.repository.ParticipantEventView;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,6 +17,7 @@ public class EventMapper {
         eventDTO.setLocation(event.getLocation());
         eventDTO.setStatus(event.getStatus());
         eventDTO.setAdditionalInfo(event.getAdditionalInfo());
+        eventDTO.setCapacity(event.getCapacity());
         eventDTO.setTotalParticipants(event.getTotalParticipants());
         eventDTO.setCreatedAt(event.getCreatedAt());
         eventDTO.setUpdatedAt(event.getUpdatedAt());
@@ -29,7 +32,22 @@ public class EventMapper {
         event.setLocation(eventDTO.getLocation());
         event.setStatus(eventDTO.getStatus());
         event.setAdditionalInfo(eventDTO.getAdditionalInfo());
+        event.setCapacity(eventDTO.getCapacity());
         event.setTotalParticipants(eventDTO.getTotalParticipants());
         return event;
     }
-}
\ No newline at end of file
+
+    public ParticipantEventDTO toDto(ParticipantEventView view) {
+        if (view == null) return null;
+
+        ParticipantEventDTO dto = new ParticipantEventDTO();
+        dto.setEventId(view.getEventId());
+        dto.setName(view.getName());
+        dto.setDateTime(view.getDateTime());
+        dto.setLocation(view.getLocation());
+        dto.setStatus(view.getStatus());
+        dto.setAttendanceStatus(view.getAttendanceStatus());
+        dto.setRegisteredAt(view.getRegisteredAt());
+        return dto;
+    }
+}
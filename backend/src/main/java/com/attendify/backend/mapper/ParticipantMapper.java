@@ -4,7 +4,9 @@ import com.attendify.backend.domain.Company;
 import com.attendify.backend.domain.Participant;
 import com.attendify.backend.domain.Person;
 import com.attendify.backend.domain.Participant.PaymentMethod;
+import com.attendify.backend.dto.EventAttendeeDTO;
 import com.attendify.backend.dto.ParticipantDTO;
+import com.attendify.backend.repository.EventAttendeeView;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
@@ -77,6 +79,29 @@ public class ParticipantMapper {
         dto.setContactPerson(company.getContactPerson());
     }
 
+    public EventAttendeeDTO toDto(EventAttendeeView view) {
+        if (view == null) return null;
+
+        EventAttendeeDTO dto = new EventAttendeeDTO();
+        dto.setId(view.getId());
+        dto.setType(view.getParticipantType());
+        dto.setPaymentMethod(view.getPaymentMethod());
+        dto.setAdditionalInfo(view.getAdditionalInfo());
+        if ("PERSON".equals(view.getParticipantType())) {
+            dto.setFirstName(view.getFirstName());
+            dto.setLastName(view.getLastName());
+            dto.setPersonalCode(view.getPersonalCode());
+        } else {
+            dto.setCompanyName(view.getCompanyName());
+            dto.setRegistrationCode(view.getRegistrationCode());
+            dto.setParticipantCount(view.getParticipantCount());
+            dto.setContactPerson(view.getContactPerson());
+        }
+        dto.setAttendanceStatus(view.getAttendanceStatus());
+        dto.setRegisteredAt(view.getRegisteredAt());
+        return dto;
+    }
+
     public Participant toEntity(ParticipantDTO dto) {
         if (dto == null) return null;
 
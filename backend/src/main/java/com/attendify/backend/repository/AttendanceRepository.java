@@ -0,0 +1,107 @@
+package com.attendify.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Attendance writes straight to {@code event_participant}, without loading registrations
+ * into the persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceRepository {
+    private static final String EVENT_DATE_TIME = "(SELECT e.date_time FROM events e WHERE e.id = ?)";
+
+    // Locks the registrations in participant order, so concurrent batches cannot deadlock, and
+    // reads their statuses from the statement snapshot, i.e. before the update
+    private static final String UPDATE_STATUSES_SQL = "WITH input AS ("
+            + "    SELECT * FROM unnest(?::bigint[], ?::varchar[]) AS i(participant_id, status)"
+            + "), existing AS ("
+            + "    SELECT ep.participant_id, COALESCE(ep.attendance_status, 'REGISTERED') AS attendance_status"
+            + "    FROM event_participant ep"
+            + "    JOIN input i ON i.participant_id = ep.participant_id"
+            + "    WHERE ep.event_id = ? AND ep.event_date_time = " + EVENT_DATE_TIME
+            + "    ORDER BY ep.participant_id"
+            + "    FOR UPDATE OF ep"
+            + "), changed AS ("
+            + "    UPDATE event_participant ep SET attendance_status = i.status"
+            + "    FROM input i JOIN existing c ON c.participant_id = i.participant_id"
+            + "    WHERE ep.event_id = ? AND ep.event_date_time = " + EVENT_DATE_TIME
+            + "      AND ep.participant_id = i.participant_id"
+            + "      AND c.attendance_status <> i.status"
+            + "      AND c.attendance_status = ANY(?::varchar[])"
+            + ") "
+            + "SELECT participant_id, attendance_status FROM existing";
+
+    private static final String ROSTER_SQL = "SELECT ep.participant_id, "
+            + "COALESCE(ep.attendance_status, 'REGISTERED') AS attendance_status, "
+            + "per.personal_code, per.first_name, per.last_name, com.registration_code, com.company_name "
+            + "FROM event_participant ep "
+            + "LEFT JOIN persons per ON per.id = ep.participant_id "
+            + "LEFT JOIN companies com ON com.id = ep.participant_id "
+            + "WHERE ep.event_id = ? AND ep.event_date_time = " + EVENT_DATE_TIME;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Sets the attendance status of the given registrations of an event in one statement.
+     * Only registrations currently in one of {@code fromStatuses} change. Returns the status
+     * each registered participant had before; participants not registered to the event are
+     * missing from the result.
+     */
+    public Map<Long, String> updateStatuses(Long eventId, Map<Long, String> statusByParticipant,
+                                            Collection<String> fromStatuses) {
+        Long[] participantIds = statusByParticipant.keySet().toArray(Long[]::new);
+        String[] statuses = new String[participantIds.length];
+        for (int i = 0; i < participantIds.length; i++) {
+            statuses[i] = statusByParticipant.get(participantIds[i]);
+        }
+        Map<Long, String> previous = new HashMap<>();
+        jdbcTemplate.query(UPDATE_STATUSES_SQL,
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", participantIds));
+                    ps.setArray(2, ps.getConnection().createArrayOf("varchar", statuses));
+                    ps.setLong(3, eventId);
+                    ps.setLong(4, eventId);
+                    ps.setLong(5, eventId);
+                    ps.setLong(6, eventId);
+                    ps.setArray(7, ps.getConnection().createArrayOf("varchar", fromStatuses.toArray()));
+                },
+                (RowCallbackHandler) rs -> previous.put(rs.getLong("participant_id"), rs.getString("attendance_status")));
+        return previous;
+    }
+
+    /**
+     * Streams the registrations of an event with the codes their badges carry.
+     */
+    public void forEachRosterEntry(Long eventId, RosterEntryHandler handler) {
+        jdbcTemplate.query(ROSTER_SQL, (RowCallbackHandler) rs -> handler.accept(
+                rs.getLong("participant_id"),
+                code(rs),
+                name(rs),
+                rs.getString("attendance_status")), eventId, eventId);
+    }
+
+    private static String code(ResultSet rs) throws SQLException {
+        String personalCode = rs.getString("personal_code");
+        return personalCode != null ? personalCode : rs.getString("registration_code");
+    }
+
+    private static String name(ResultSet rs) throws SQLException {
+        String companyName = rs.getString("company_name");
+        return companyName != null ? companyName : rs.getString("first_name") + " " + rs.getString("last_name");
+    }
+
+    @FunctionalInterface
+    public interface RosterEntryHandler {
+        void accept(long participantId, String code, String name, String attendanceStatus);
+    }
+}
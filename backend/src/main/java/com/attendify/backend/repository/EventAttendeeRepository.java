@@ -0,0 +1,65 @@
+package com.attendify.backend.repository;
+
+import com.attendify.backend.dto.ParticipantDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Reads event attendees as {@link ParticipantDTO}s straight from JDBC, without loading
+ * {@code Event.participants} or any participant entity.
+ */
+@Repository
+public class EventAttendeeRepository {
+    static final int FETCH_SIZE = 500;
+
+    private static final String ATTENDEES_SQL = "SELECT p.id, p.participant_type, p.payment_method, p.additional_info, "
+            + "per.first_name, per.last_name, per.personal_code, "
+            + "com.company_name, com.registration_code, com.participant_count, com.contact_person "
+            + "FROM event_participant ep "
+            + "JOIN participants p ON p.id = ep.participant_id "
+            + "LEFT JOIN persons per ON per.id = p.id "
+            + "LEFT JOIN companies com ON com.id = p.id "
+            + "WHERE ep.event_id = ? AND ep.event_date_time = (SELECT e.date_time FROM events e WHERE e.id = ?) "
+            + "ORDER BY p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventAttendeeRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    /**
+     * Streams the attendees of an event in participant id order. The PostgreSQL driver only
+     * uses a server-side cursor inside a transaction, so callers must hold one; otherwise the
+     * whole result is buffered client-side.
+     */
+    public void forEachAttendee(Long eventId, Consumer<ParticipantDTO> consumer) {
+        jdbcTemplate.query(ATTENDEES_SQL, (RowCallbackHandler) rs -> consumer.accept(toDto(rs)), eventId, eventId);
+    }
+
+    static ParticipantDTO toDto(ResultSet rs) throws SQLException {
+        ParticipantDTO dto = new ParticipantDTO();
+        dto.setId(rs.getLong("id"));
+        dto.setType(rs.getString("participant_type"));
+        dto.setPaymentMethod(rs.getString("payment_method"));
+        dto.setAdditionalInfo(rs.getString("additional_info"));
+        if ("PERSON".equals(dto.getType())) {
+            dto.setFirstName(rs.getString("first_name"));
+            dto.setLastName(rs.getString("last_name"));
+            dto.setPersonalCode(rs.getString("personal_code"));
+        } else {
+            dto.setCompanyName(rs.getString("company_name"));
+            dto.setRegistrationCode(rs.getString("registration_code"));
+            dto.setParticipantCount(rs.getObject("participant_count", Integer.class));
+            dto.setContactPerson(rs.getString("contact_person"));
+        }
+        return dto;
+    }
+}
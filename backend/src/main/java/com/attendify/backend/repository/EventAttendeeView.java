@@ -0,0 +1,34 @@
+package com.attendify.backend.repository;
+
+import java.time.Instant;
+
+/**
+ * Flat projection of a registration joined with its participant subtype row.
+ */
+public interface EventAttendeeView {
+    Long getId();
+
+    String getParticipantType();
+
+    String getPaymentMethod();
+
+    String getAdditionalInfo();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getPersonalCode();
+
+    String getCompanyName();
+
+    String getRegistrationCode();
+
+    Integer getParticipantCount();
+
+    String getContactPerson();
+
+    String getAttendanceStatus();
+
+    Instant getRegisteredAt();
+}
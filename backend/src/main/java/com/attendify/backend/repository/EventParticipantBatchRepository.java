@@ -0,0 +1,80 @@
+package com.attendify.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Set-based writes to {@code event_participant} that bypass the persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventParticipantBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Registers the participants in one statement, so the counter triggers fire once. The
+     * partition key is taken from the event row rather than bound, so it always matches it.
+     * Returns the participants actually inserted; one registered concurrently is left out.
+     */
+    public List<Long> insertRegistrations(Long eventId, List<Long> participantIds) {
+        return jdbcTemplate.query(
+                "INSERT INTO event_participant (event_id, participant_id, event_date_time, attendance_status) "
+                        + "SELECT e.id, p.id, e.date_time, 'REGISTERED' "
+                        + "FROM events e CROSS JOIN unnest(?::bigint[]) AS p(id) "
+                        + "WHERE e.id = ? "
+                        + "ON CONFLICT DO NOTHING "
+                        + "RETURNING participant_id",
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", participantIds.toArray()));
+                    ps.setLong(2, eventId);
+                },
+                (rs, rowNum) -> rs.getLong(1));
+    }
+
+    /**
+     * {@link #insertRegistrations} inside a savepoint, so a refused insert rolls back on its own
+     * and leaves the surrounding transaction usable.
+     */
+    public List<Long> insertRegistrationsInSavepoint(Long eventId, List<Long> participantIds) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            List<Long> inserted;
+            try {
+                inserted = insertRegistrations(eventId, participantIds);
+            } catch (RuntimeException e) {
+                connection.rollback(savepoint);
+                throw e;
+            }
+            connection.releaseSavepoint(savepoint);
+            return inserted;
+        });
+    }
+
+    /**
+     * The seats still free in the event, with its row locked until the transaction ends so no
+     * other registration takes them; {@code null} if the event has no capacity.
+     */
+    public Integer lockFreeSeats(Long eventId) {
+        // A registration locks event_participant before its trigger updates the events row; keep that order
+        jdbcTemplate.execute("LOCK TABLE event_participant IN ROW EXCLUSIVE MODE");
+        return jdbcTemplate.queryForObject("SELECT capacity - total_participants FROM events WHERE id = ? FOR UPDATE",
+                Integer.class, eventId);
+    }
+
+    /**
+     * Creates the yearly {@code event_participant} partitions up to {@code through}, returning
+     * how many did not exist yet.
+     */
+    public int ensurePartitions(Instant from, Instant through) {
+        Integer created = jdbcTemplate.queryForObject("SELECT ensure_event_participant_partitions(?, ?)",
+                Integer.class, Timestamp.from(from), Timestamp.from(through));
+        return created == null ? 0 : created;
+    }
+}
@@ -4,13 +4,92 @@ import com.attendify.backend.domain.Event;
 import com.attendify.backend.domain.EventParticipant;
 import com.attendify.backend.domain.EventParticipantId;
 import com.attendify.backend.domain.Participant;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
 public interface EventParticipantRepository extends JpaRepository<EventParticipant, EventParticipantId> {
+    // Matching the partition key lets the executor skip every partition but the event's year
+    String EVENT_DATE_TIME = "(SELECT e.date_time FROM events e WHERE e.id = :eventId)";
 
     boolean existsByEventAndParticipant(Event event, Participant participant);
 
-    void deleteByEventAndParticipant(Event event, Participant participant);
+    long deleteByEventAndParticipant(Event event, Participant participant);
 
     void deleteByEvent(Event event);
+
+    @Query("SELECT ep.participant.id FROM EventParticipant ep "
+            + "WHERE ep.event.id = :eventId AND ep.participant.id IN :participantIds "
+            + "AND ep.eventDateTime = (SELECT e.dateTime FROM Event e WHERE e.id = :eventId)")
+    List<Long> findRegisteredParticipantIds(@Param("eventId") Long eventId,
+                                            @Param("participantIds") Collection<Long> participantIds);
+
+    @Query("SELECT ep.event.id FROM EventParticipant ep WHERE ep.participant.id = :participantId")
+    List<Long> findEventIdsByParticipantId(@Param("participantId") Long participantId);
+
+    @Query(value = "SELECT p.id AS id, p.participant_type AS participantType, p.payment_method AS paymentMethod, "
+            + "p.additional_info AS additionalInfo, per.first_name AS firstName, per.last_name AS lastName, "
+            + "per.personal_code AS personalCode, com.company_name AS companyName, "
+            + "com.registration_code AS registrationCode, com.participant_count AS participantCount, "
+            + "com.contact_person AS contactPerson, ep.attendance_status AS attendanceStatus, "
+            + "ep.registered_at AS registeredAt "
+            + "FROM event_participant ep "
+            + "JOIN participants p ON p.id = ep.participant_id "
+            + "LEFT JOIN persons per ON per.id = p.id "
+            + "LEFT JOIN companies com ON com.id = p.id "
+            + "WHERE ep.event_id = :eventId AND ep.event_date_time = " + EVENT_DATE_TIME + " "
+            + "ORDER BY ep.registered_at, p.id",
+            countQuery = "SELECT COUNT(*) FROM event_participant ep "
+                    + "WHERE ep.event_id = :eventId AND ep.event_date_time = " + EVENT_DATE_TIME,
+            nativeQuery = true)
+    Page<EventAttendeeView> findAttendees(@Param("eventId") Long eventId, Pageable pageable);
+
+    /**
+     * A participant's registrations, newest first, with events dated in {@code [from, to)}.
+     * The registration columns come from an index-only scan of
+     * {@code idx_event_participant_history} in each partition the date range leaves; only the
+     * rows of the page are joined to {@code events}. With {@code allStatuses} the status filter
+     * is skipped, so registrations without a status are listed too.
+     */
+    @Query(value = "SELECT e.id AS eventId, e.name AS name, e.date_time AS dateTime, e.location AS location, "
+            + "e.status AS status, ep.attendance_status AS attendanceStatus, ep.registered_at AS registeredAt "
+            + "FROM event_participant ep "
+            + "JOIN events e ON e.id = ep.event_id "
+            + "WHERE ep.participant_id = :participantId AND (:allStatuses OR ep.attendance_status IN (:statuses)) "
+            + "AND ep.event_date_time >= :from AND ep.event_date_time < :to "
+            + "ORDER BY ep.registered_at DESC, ep.event_id",
+            countQuery = "SELECT COUNT(*) FROM event_participant ep "
+                    + "WHERE ep.participant_id = :participantId AND (:allStatuses OR ep.attendance_status IN (:statuses)) "
+                    + "AND ep.event_date_time >= :from AND ep.event_date_time < :to",
+            nativeQuery = true)
+    Page<ParticipantEventView> findParticipantEvents(@Param("participantId") Long participantId,
+                                                     @Param("allStatuses") boolean allStatuses,
+                                                     @Param("statuses") Collection<String> statuses,
+                                                     @Param("from") Instant from,
+                                                     @Param("to") Instant to,
+                                                     Pageable pageable);
+
+    /**
+     * Blocks registration inserts, updates and deletes until the surrounding transaction ends,
+     * while still letting them be read.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE event_participant IN SHARE MODE", nativeQuery = true)
+    void lockAgainstWrites();
+
+    @Modifying
+    @Query(value = "UPDATE event_participant ep SET seat_count = s.actual "
+            + "FROM (SELECT p.id, CASE WHEN p.participant_type = 'PERSON' THEN 1 "
+            + "                        WHEN p.participant_type = 'COMPANY' THEN COALESCE(c.participant_count, 0) "
+            + "                        ELSE 0 END AS actual "
+            + "      FROM participants p LEFT JOIN companies c ON p.id = c.id) s "
+            + "WHERE s.id = ep.participant_id AND ep.seat_count <> s.actual", nativeQuery = true)
+    int reconcileSeatCounts();
 }
@@ -2,13 +2,64 @@ package com.attendify.backend.repository;
 
 import com.attendify.backend.domain.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
-    List<Event> findByDateTimeAfterOrderByDateTime(Instant now);
-    List<Event> findByDateTimeBeforeOrderByDateTimeDesc(Instant now);
-}
\ No newline at end of file
+    @Query("SELECT e.id FROM Event e WHERE e.dateTime BETWEEN :from AND :to")
+    List<Long> findIdsByDateTimeBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("SELECT e.updatedAt FROM Event e WHERE e.id = :id")
+    Optional<OffsetDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    @Query(value = "SELECT e.capacity AS capacity, e.total_participants AS totalParticipants "
+            + "FROM events e WHERE e.id = :id", nativeQuery = true)
+    Optional<SeatState> findSeatStateById(@Param("id") Long id);
+
+    @Query(value = "SELECT e.id AS eventId, e.capacity AS capacity, e.total_participants AS totalParticipants, "
+            + "c.registered AS registered, c.attended AS attended "
+            + "FROM events e CROSS JOIN LATERAL ("
+            + "    SELECT (count(*) FILTER (WHERE ep.attendance_status IS DISTINCT FROM 'CANCELLED'))::int AS registered, "
+            + "           (count(*) FILTER (WHERE ep.attendance_status = 'ATTENDED'))::int AS attended "
+            + "    FROM event_participant ep "
+            + "    WHERE ep.event_id = e.id AND ep.event_date_time = e.date_time"
+            + ") c "
+            + "WHERE e.id IN (:ids)", nativeQuery = true)
+    List<LiveCounts> findLiveCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "UPDATE events e SET total_participants = t.actual, "
+            + "updated_at = GREATEST(clock_timestamp(), e.updated_at + interval '1 microsecond') "
+            + "FROM (SELECT ev.id, COALESCE(SUM(ep.seat_count), 0) AS actual "
+            + "      FROM events ev LEFT JOIN event_participant ep ON ep.event_id = ev.id "
+            + "      GROUP BY ev.id) t "
+            + "WHERE t.id = e.id AND e.total_participants <> t.actual", nativeQuery = true)
+    int reconcileTotalParticipants();
+
+    interface SeatState {
+        Integer getCapacity();
+
+        int getTotalParticipants();
+    }
+
+    interface LiveCounts {
+        Long getEventId();
+
+        Integer getCapacity();
+
+        int getTotalParticipants();
+
+        int getRegistered();
+
+        int getAttended();
+    }
+}
@@ -0,0 +1,134 @@
+package com.attendify.backend.repository;
+
+import com.attendify.backend.domain.Company;
+import com.attendify.backend.domain.Participant;
+import com.attendify.backend.domain.Person;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Bulk inserts of new participants through PostgreSQL {@code COPY}. Must run inside a
+ * transaction so the three tables are written atomically.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ParticipantCopyRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<String> findExistingPersonalCodes(Collection<String> personalCodes) {
+        return jdbcTemplate.queryForList(
+                "SELECT personal_code FROM persons WHERE personal_code = ANY (?)", String.class,
+                (Object) personalCodes.toArray(String[]::new));
+    }
+
+    public List<String> findExistingRegistrationCodes(Collection<String> registrationCodes) {
+        return jdbcTemplate.queryForList(
+                "SELECT registration_code FROM companies WHERE registration_code = ANY (?)", String.class,
+                (Object) registrationCodes.toArray(String[]::new));
+    }
+
+    /**
+     * Assigns ids from {@code participants_id_seq} and copies the participants into
+     * {@code participants}, {@code persons} and {@code companies}. Like Hibernate's pooled
+     * optimizer, each {@code nextval} value {@code v} reserves the ids up to and including {@code v}
+     * that follow the previous block.
+     */
+    public void insertAll(List<? extends Participant> participants) {
+        if (participants.isEmpty()) {
+            return;
+        }
+        int blocks = (participants.size() + Participant.ID_ALLOCATION_SIZE - 1) / Participant.ID_ALLOCATION_SIZE;
+        List<Long> blockEnds = jdbcTemplate.queryForList(
+                "SELECT nextval('participants_id_seq') FROM generate_series(1, ?)", Long.class, blocks);
+        List<Long> ids = new ArrayList<>(participants.size());
+        for (int i = 0; i < participants.size(); i++) {
+            long blockEnd = blockEnds.get(i / Participant.ID_ALLOCATION_SIZE);
+            ids.add(blockEnd - Participant.ID_ALLOCATION_SIZE + 1 + i % Participant.ID_ALLOCATION_SIZE);
+        }
+        StringBuilder base = new StringBuilder();
+        StringBuilder persons = new StringBuilder();
+        StringBuilder companies = new StringBuilder();
+        for (int i = 0; i < participants.size(); i++) {
+            Participant participant = participants.get(i);
+            participant.setId(ids.get(i));
+            String type = participant instanceof Person ? "PERSON" : "COMPANY";
+            row(base, participant.getId(), type,
+                    participant.getPaymentMethod() != null ? participant.getPaymentMethod().name() : null,
+                    participant.getAdditionalInfo());
+            if (participant instanceof Person person) {
+                row(persons, person.getId(), person.getFirstName(), person.getLastName(), person.getPersonalCode(),
+                        person.getEmail(), person.getPhone());
+            } else if (participant instanceof Company company) {
+                row(companies, company.getId(), company.getCompanyName(), company.getRegistrationCode(),
+                        company.getParticipantCount(), company.getContactPerson(), company.getEmail(), company.getPhone());
+            }
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            copy(copyManager, "participants (id, participant_type, payment_method, additional_info)", base);
+            copy(copyManager, "persons (id, first_name, last_name, personal_code, email, phone)", persons);
+            copy(copyManager, "companies (id, company_name, registration_code, participant_count, contact_person, email, phone)", companies);
+            return null;
+        });
+        evictQueryCacheAfterCommit();
+    }
+
+    /**
+     * {@code COPY} bypasses Hibernate, so cached code lookups would not see the new rows.
+     */
+    private void evictQueryCacheAfterCommit() {
+        Runnable evict = () -> entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+
+    private static void copy(CopyManager copyManager, String target, StringBuilder rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            copyManager.copyIn("COPY " + target + " FROM STDIN WITH (FORMAT csv)", new StringReader(rows.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void row(StringBuilder out, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            Object value = values[i];
+            if (value != null) {
+                // Quote every value so an empty string stays distinct from NULL
+                out.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+            }
+        }
+        out.append('\n');
+    }
+}
@@ -0,0 +1,23 @@
+package com.attendify.backend.repository;
+
+import java.time.Instant;
+
+/**
+ * Flat projection of a registration joined with the few event columns a participant's
+ * history shows.
+ */
+public interface ParticipantEventView {
+    Long getEventId();
+
+    String getName();
+
+    Instant getDateTime();
+
+    String getLocation();
+
+    String getStatus();
+
+    String getAttendanceStatus();
+
+    Instant getRegisteredAt();
+}
@@ -0,0 +1,78 @@
+package com.attendify.backend.repository;
+
+import com.attendify.backend.dto.RegistrationMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The {@code registration_outbox} table. Messages are appended in the registering transaction
+ * and claimed by the dispatcher with a lease, so several instances can drain it concurrently.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RegistrationOutboxRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(RegistrationMessage.Type type, Long eventId, Collection<Long> participantIds) {
+        if (participantIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO registration_outbox (type, event_id, participant_id) "
+                        + "SELECT ?, ?, unnest(?::bigint[])",
+                type.name(), eventId, participantIds.toArray(Long[]::new));
+    }
+
+    /**
+     * Claims up to {@code limit} due messages in id order and hides them from other claims for
+     * {@code lease}; a message that is neither completed nor failed by then is redelivered.
+     */
+    public List<RegistrationMessage> claimBatch(int limit, Duration lease) {
+        List<RegistrationMessage> messages = jdbcTemplate.query("UPDATE registration_outbox o "
+                        + "SET attempts = o.attempts + 1, next_attempt_at = now() + ?::float8 * interval '1 millisecond' "
+                        + "WHERE o.id IN (SELECT id FROM registration_outbox "
+                        + "               WHERE status = 'PENDING' AND next_attempt_at <= now() "
+                        + "               ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) "
+                        + "RETURNING o.id, o.type, o.event_id, o.participant_id, o.attempts, o.created_at",
+                (rs, rowNum) -> new RegistrationMessage(
+                        rs.getLong("id"),
+                        RegistrationMessage.Type.valueOf(rs.getString("type")),
+                        rs.getLong("event_id"),
+                        rs.getLong("participant_id"),
+                        rs.getInt("attempts"),
+                        rs.getTimestamp("created_at").toInstant()),
+                lease.toMillis(), limit);
+        return messages.stream().sorted(Comparator.comparingLong(RegistrationMessage::id)).toList();
+    }
+
+    public void markDone(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE registration_outbox SET status = 'DONE', processed_at = now(), last_error = NULL "
+                + "WHERE id = ANY (?)", (Object) ids.toArray(Long[]::new));
+    }
+
+    /**
+     * Schedules a retry after {@code retryDelay}, or gives up with status {@code FAILED}.
+     */
+    public void markFailed(long id, String error, Duration retryDelay, boolean giveUp) {
+        jdbcTemplate.update("UPDATE registration_outbox SET last_error = left(?, 1000), "
+                        + "next_attempt_at = now() + ?::float8 * interval '1 millisecond', "
+                        + "status = CASE WHEN ? THEN 'FAILED' ELSE 'PENDING' END, "
+                        + "processed_at = CASE WHEN ? THEN now() END "
+                        + "WHERE id = ?",
+                error, retryDelay.toMillis(), giveUp, giveUp, id);
+    }
+
+    public int purgeDone(Duration retention) {
+        return jdbcTemplate.update("DELETE FROM registration_outbox "
+                + "WHERE status = 'DONE' AND processed_at < now() - ?::float8 * interval '1 millisecond'",
+                retention.toMillis());
+    }
+}
@@ -0,0 +1,61 @@
+package com.attendify.backend.repository.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Searchable participant fields and the columns backing them. Every column has a
+ * {@code pg_trgm} GIN index on {@code LOWER(column)}, see {@code participant-search.yaml}.
+ */
+public enum ParticipantSearchField {
+    FIRST_NAME("firstname", Column.person("first_name")),
+    LAST_NAME("lastname", Column.person("last_name")),
+    PERSONAL_CODE("personalcode", Column.person("personal_code")),
+    COMPANY_NAME("companyname", Column.company("company_name")),
+    REGISTRATION_CODE("registrationcode", Column.company("registration_code")),
+    CONTACT_PERSON("contactperson", Column.company("contact_person")),
+    EMAIL("email", Column.person("email"), Column.company("email")),
+    PHONE("phone", Column.person("phone"), Column.company("phone")),
+    ADDITIONAL_INFO("additionalinfo", Column.participant("additional_info"));
+
+    private final String key;
+    private final List<Column> columns;
+
+    ParticipantSearchField(String key, Column... columns) {
+        this.key = key;
+        this.columns = List.of(columns);
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    public static Optional<ParticipantSearchField> fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(field -> field.key.equals(key))
+                .findFirst();
+    }
+
+    /**
+     * A searchable column. {@code participantType} is the only participant type stored in
+     * {@code table}, or {@code null} for the shared {@code participants} table.
+     */
+    public record Column(String table, String name, String participantType) {
+        static Column person(String name) {
+            return new Column("persons", name, "PERSON");
+        }
+
+        static Column company(String name) {
+            return new Column("companies", name, "COMPANY");
+        }
+
+        static Column participant(String name) {
+            return new Column("participants", name, null);
+        }
+
+        boolean appliesTo(String type) {
+            return type == null || participantType == null || participantType.equals(type);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.attendify.backend.repository.search;
+
+import com.attendify.backend.repository.search.ParticipantSearchField.Column;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the native SQL for a participant search. Each searched column becomes its own
+ * {@code LOWER(column) LIKE :pattern} branch of a {@code UNION ALL}, which lets PostgreSQL
+ * answer every branch from that column's trigram index. Matches are ranked by trigram
+ * similarity to the query, best match first.
+ */
+public class ParticipantSearchQueryBuilder {
+
+    private final String type;
+    private final List<Column> columns;
+
+    /**
+     * @param type  {@code PERSON}, {@code COMPANY} or {@code null} for both
+     * @param field a {@link ParticipantSearchField} key, or {@code null}/{@code ""}/{@code "all"} for every field
+     */
+    public ParticipantSearchQueryBuilder(String type, String field) {
+        this.type = type;
+        this.columns = resolveFields(field).stream()
+                .flatMap(f -> f.getColumns().stream())
+                .filter(column -> column.appliesTo(type))
+                .toList();
+    }
+
+    public boolean isEmpty() {
+        return columns.isEmpty();
+    }
+
+    public String buildSelectIds() {
+        return "SELECT m.id FROM (" + matches(true) + ") m "
+                + "GROUP BY m.id "
+                + "ORDER BY MAX(m.rank) DESC, m.id "
+                + "LIMIT :limit OFFSET :offset";
+    }
+
+    public String buildCount() {
+        return "SELECT COUNT(DISTINCT m.id) FROM (" + matches(false) + ") m";
+    }
+
+    /**
+     * Escapes {@code LIKE} wildcards in the user input and wraps it for a substring match.
+     */
+    public static String toPattern(String query) {
+        String escaped = query.toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private String matches(boolean ranked) {
+        return columns.stream()
+                .map(column -> branch(column, ranked))
+                .collect(Collectors.joining(" UNION ALL "));
+    }
+
+    private String branch(Column column, boolean ranked) {
+        String expression = "LOWER(t." + column.name() + ")";
+        StringBuilder sql = new StringBuilder("SELECT t.id");
+        if (ranked) {
+            sql.append(", similarity(").append(expression).append(", :query) AS rank");
+        }
+        sql.append(" FROM ").append(column.table()).append(" t ")
+                .append("WHERE ").append(expression).append(" LIKE :pattern");
+        if (column.participantType() == null && type != null) {
+            sql.append(" AND t.participant_type = '").append(type).append("'");
+        }
+        return sql.toString();
+    }
+
+    private static List<ParticipantSearchField> resolveFields(String field) {
+        if (field == null || field.isEmpty() || field.equals("all")) {
+            return Arrays.asList(ParticipantSearchField.values());
+        }
+        return ParticipantSearchField.fromKey(field).stream().toList();
+    }
+}
@@ -0,0 +1,76 @@
+package com.attendify.backend.repository.search;
+
+import com.attendify.backend.domain.Participant;
+import com.attendify.backend.repository.ParticipantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Repository
+@RequiredArgsConstructor
+public class ParticipantSearchRepository {
+    public static final String PHASE_METRIC = "attendify.participant.search";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ParticipantRepository participantRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Ranked substring search over participant fields. The id, count and entity-load queries
+     * are timed separately as {@value #PHASE_METRIC} with a {@code phase} tag.
+     *
+     * @param type  {@code PERSON}, {@code COMPANY} or {@code null} for both
+     * @param field a {@link ParticipantSearchField} key, or {@code null}/{@code ""}/{@code "all"} for every field
+     */
+    public Page<Participant> search(String query, String type, String field, Pageable pageable) {
+        ParticipantSearchQueryBuilder builder = new ParticipantSearchQueryBuilder(type, field);
+        if (builder.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        String normalizedQuery = query.toLowerCase();
+        String pattern = ParticipantSearchQueryBuilder.toPattern(query);
+
+        @SuppressWarnings("unchecked")
+        List<Number> ids = timed("ids", () -> entityManager.createNativeQuery(builder.buildSelectIds())
+                .setParameter("query", normalizedQuery)
+                .setParameter("pattern", pattern)
+                .setParameter("limit", pageable.getPageSize())
+                .setParameter("offset", pageable.getOffset())
+                .getResultList());
+
+        long total = timed("count", () -> ((Number) entityManager.createNativeQuery(builder.buildCount())
+                .setParameter("pattern", pattern)
+                .getSingleResult()).longValue());
+
+        return new PageImpl<>(timed("load", () -> loadInOrder(ids)), pageable, total);
+    }
+
+    private <T> T timed(String phase, Supplier<T> query) {
+        return Timer.builder(PHASE_METRIC).tag("phase", phase).register(meterRegistry).record(query);
+    }
+
+    private List<Participant> loadInOrder(List<Number> ids) {
+        Map<Long, Integer> position = new HashMap<>();
+        for (Number id : ids) {
+            position.put(id.longValue(), position.size());
+        }
+        return participantRepository.findAllById(position.keySet()).stream()
+                .sorted(Comparator.comparing(participant -> position.get(participant.getId())))
+                .toList();
+    }
+}
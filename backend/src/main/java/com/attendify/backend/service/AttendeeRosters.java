@@ -0,0 +1,186 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.domain.EventParticipant.AttendanceStatus;
+import com.attendify.backend.exception.ResourceNotFoundException;
+import com.attendify.backend.repository.AttendanceRepository;
+import com.attendify.backend.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory check-in rosters: for each event around its start, the badge code (personal code
+ * or registration code) of every registration mapped to the participant, plus live counts
+ * of registered and attended participants. A door scan then costs one map lookup and one
+ * conditional update.
+ * <p>
+ * Rosters of events starting within {@code warm-ahead} are loaded on a schedule before the
+ * doors open, and reloaded after registrations of the event change. The counts also follow
+ * the check-ins made through this instance; check-ins on other instances show up with the
+ * next reload, at most {@code refresh-interval} later.
+ */
+@Slf4j
+@Component
+public class AttendeeRosters {
+    private final AttendanceRepository attendanceRepository;
+    private final EventRepository eventRepository;
+    private final Clock clock;
+    private final Duration warmAhead;
+    private final Duration keepAfter;
+    private final Map<Long, Roster> rosters = new ConcurrentHashMap<>();
+
+    public AttendeeRosters(AttendanceRepository attendanceRepository,
+                           EventRepository eventRepository,
+                           Clock clock,
+                           @Value("${attendify.check-in.warm-ahead:PT3H}") Duration warmAhead,
+                           @Value("${attendify.check-in.keep-after:PT12H}") Duration keepAfter) {
+        this.attendanceRepository = attendanceRepository;
+        this.eventRepository = eventRepository;
+        this.clock = clock;
+        this.warmAhead = warmAhead;
+        this.keepAfter = keepAfter;
+    }
+
+    /**
+     * The roster of an event, loaded on first use if the schedule has not warmed it yet.
+     */
+    public Roster get(Long eventId) {
+        Roster current = rosters.get(eventId);
+        if (current != null) {
+            return current;
+        }
+        Roster loaded = load(eventId);
+        current = rosters.putIfAbsent(eventId, loaded);
+        return current != null ? current : loaded;
+    }
+
+    /**
+     * The roster of an event if one is loaded; check-ins update its counts.
+     */
+    public Roster getIfLoaded(Long eventId) {
+        return rosters.get(eventId);
+    }
+
+    public Roster warm(Long eventId) {
+        Roster loaded = load(eventId);
+        rosters.put(eventId, loaded);
+        return loaded;
+    }
+
+    /**
+     * Loads the rosters of the events starting soon or in progress and drops the others.
+     */
+    @Scheduled(initialDelayString = "PT10S", fixedDelayString = "${attendify.check-in.refresh-interval:PT30S}")
+    public void refresh() {
+        Instant now = clock.instant();
+        Set<Long> active = new HashSet<>(eventRepository.findIdsByDateTimeBetween(now.minus(keepAfter), now.plus(warmAhead)));
+        rosters.keySet().retainAll(active);
+        for (Long eventId : active) {
+            try {
+                warm(eventId);
+            } catch (ResourceNotFoundException e) {
+                rosters.remove(eventId);
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventsChanged(EventsChangedEvent change) {
+        Set<Long> eventIds = change.isAll() ? Set.copyOf(rosters.keySet()) : change.eventIds();
+        for (Long eventId : eventIds) {
+            if (rosters.containsKey(eventId)) {
+                try {
+                    warm(eventId);
+                } catch (ResourceNotFoundException e) {
+                    rosters.remove(eventId);
+                }
+            }
+        }
+    }
+
+    private Roster load(Long eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new ResourceNotFoundException("Event not found with id: " + eventId);
+        }
+        Map<String, Attendee> byCode = new HashMap<>();
+        int[] counts = new int[2];
+        attendanceRepository.forEachRosterEntry(eventId, (participantId, code, name, attendanceStatus) -> {
+            if (code != null) {
+                byCode.put(code, new Attendee(participantId, name));
+            }
+            if (!AttendanceStatus.CANCELLED.name().equals(attendanceStatus)) {
+                counts[0]++;
+            }
+            if (AttendanceStatus.ATTENDED.name().equals(attendanceStatus)) {
+                counts[1]++;
+            }
+        });
+        log.debug("Loaded check-in roster of event {}: {} registrations", eventId, byCode.size());
+        return new Roster(eventId, Map.copyOf(byCode), counts[0], counts[1]);
+    }
+
+    public record Attendee(long participantId, String name) {
+    }
+
+    public static final class Roster {
+        private final Long eventId;
+        private final Map<String, Attendee> byCode;
+        private final AtomicInteger registered;
+        private final AtomicInteger attended;
+
+        Roster(Long eventId, Map<String, Attendee> byCode, int registered, int attended) {
+            this.eventId = eventId;
+            this.byCode = byCode;
+            this.registered = new AtomicInteger(registered);
+            this.attended = new AtomicInteger(attended);
+        }
+
+        public Long getEventId() {
+            return eventId;
+        }
+
+        public Attendee find(String code) {
+            return code == null ? null : byCode.get(code.strip());
+        }
+
+        /**
+         * Registrations that are not cancelled.
+         */
+        public int getRegistered() {
+            return registered.get();
+        }
+
+        public int getAttended() {
+            return attended.get();
+        }
+
+        void statusChanged(String from, String to) {
+            if (from.equals(to)) {
+                return;
+            }
+            if (AttendanceStatus.ATTENDED.name().equals(from)) {
+                attended.decrementAndGet();
+            } else if (AttendanceStatus.CANCELLED.name().equals(from)) {
+                registered.incrementAndGet();
+            }
+            if (AttendanceStatus.ATTENDED.name().equals(to)) {
+                attended.incrementAndGet();
+            } else if (AttendanceStatus.CANCELLED.name().equals(to)) {
+                registered.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.dto.AttendanceCountsDTO;
+import com.attendify.backend.dto.AttendanceResultDTO;
+import com.attendify.backend.dto.AttendanceUpdateDTO;
+import com.attendify.backend.dto.CheckInResultDTO;
+
+import java.util.List;
+
+public interface CheckInService {
+    CheckInResultDTO checkIn(Long eventId, String code);
+
+    AttendanceResultDTO updateAttendance(Long eventId, Long participantId, String status);
+
+    List<AttendanceResultDTO> updateAttendance(Long eventId, List<AttendanceUpdateDTO> updates);
+
+    AttendanceCountsDTO getCounts(Long eventId);
+}
@@ -0,0 +1,195 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.domain.EventParticipant.AttendanceStatus;
+import com.attendify.backend.dto.AttendanceCountsDTO;
+import com.attendify.backend.dto.AttendanceResultDTO;
+import com.attendify.backend.dto.AttendanceUpdateDTO;
+import com.attendify.backend.dto.CheckInResultDTO;
+import com.attendify.backend.exception.ResourceNotFoundException;
+import com.attendify.backend.repository.AttendanceRepository;
+import com.attendify.backend.service.AttendeeRosters.Attendee;
+import com.attendify.backend.service.AttendeeRosters.Roster;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Service
+public class CheckInServiceImpl implements CheckInService {
+    static final int MAX_BATCH_SIZE = 10_000;
+    static final String SCAN_METRIC = "attendify.check-in.scan";
+    static final String NOT_REGISTERED = "Participant not registered to event";
+
+    private static final List<String> ALL_ATTENDANCE_STATUSES = Arrays.stream(AttendanceStatus.values())
+            .map(Enum::name)
+            .toList();
+    private static final List<String> CHECK_IN_FROM = List.of(AttendanceStatus.REGISTERED.name());
+
+    private final AttendanceRepository attendanceRepository;
+    private final AttendeeRosters attendeeRosters;
+    private final Timer scanTimer;
+
+    public CheckInServiceImpl(AttendanceRepository attendanceRepository,
+                              AttendeeRosters attendeeRosters,
+                              MeterRegistry meterRegistry) {
+        this.attendanceRepository = attendanceRepository;
+        this.attendeeRosters = attendeeRosters;
+        this.scanTimer = Timer.builder(SCAN_METRIC)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Resolves the code from the in-memory roster and flips REGISTERED to ATTENDED in one
+     * autocommitted statement, so a scan costs a single round trip.
+     */
+    @Override
+    public CheckInResultDTO checkIn(Long eventId, String code) {
+        return scanTimer.record(() -> {
+            Roster roster = attendeeRosters.get(eventId);
+            Attendee attendee = roster.find(code);
+            if (attendee == null) {
+                throw new ResourceNotFoundException("No registration with code " + code + " for event " + eventId);
+            }
+            String attended = AttendanceStatus.ATTENDED.name();
+            String previous = attendanceRepository.updateStatuses(eventId,
+                    Map.of(attendee.participantId(), attended), CHECK_IN_FROM).get(attendee.participantId());
+            if (previous == null) {
+                // Unregistered since the roster was loaded
+                attendeeRosters.warm(eventId);
+                throw new ResourceNotFoundException("No registration with code " + code + " for event " + eventId);
+            }
+            CheckInResultDTO.Status status;
+            if (AttendanceStatus.REGISTERED.name().equals(previous)) {
+                roster.statusChanged(previous, attended);
+                status = CheckInResultDTO.Status.CHECKED_IN;
+            } else if (attended.equals(previous)) {
+                status = CheckInResultDTO.Status.ALREADY_CHECKED_IN;
+            } else {
+                status = CheckInResultDTO.Status.CANCELLED;
+            }
+            // A roster reloaded after the update committed already counts it; report its counts
+            Roster current = attendeeRosters.getIfLoaded(eventId);
+            if (current == null) {
+                current = roster;
+            }
+            return new CheckInResultDTO(attendee.participantId(), attendee.name(), status,
+                    current.getAttended(), current.getRegistered());
+        });
+    }
+
+    @Override
+    public AttendanceResultDTO updateAttendance(Long eventId, Long participantId, String status) {
+        String attendanceStatus = parseStatus(status);
+        Roster roster = attendeeRosters.getIfLoaded(eventId);
+        String previous = attendanceRepository.updateStatuses(eventId,
+                Map.of(participantId, attendanceStatus), ALL_ATTENDANCE_STATUSES).get(participantId);
+        if (previous == null) {
+            throw new ResourceNotFoundException(NOT_REGISTERED);
+        }
+        statusChanged(roster, previous, attendanceStatus);
+        return result(participantId, previous, attendanceStatus);
+    }
+
+    /**
+     * Applies all rows in one statement; rows that cannot apply are reported rather than
+     * failing the whole batch.
+     */
+    @Override
+    public List<AttendanceResultDTO> updateAttendance(Long eventId, List<AttendanceUpdateDTO> updates) {
+        if (updates == null || updates.isEmpty()) {
+            throw new IllegalArgumentException("Attendance update list cannot be empty");
+        }
+        if (updates.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch exceeds maximum size of " + MAX_BATCH_SIZE + " updates");
+        }
+
+        Map<Long, String> statusByParticipant = new LinkedHashMap<>();
+        List<AttendanceResultDTO> results = new ArrayList<>(updates.size());
+        for (AttendanceUpdateDTO update : updates) {
+            Long participantId = update == null ? null : update.getParticipantId();
+            String status = update == null ? null : normalize(update.getStatus());
+            if (participantId == null) {
+                results.add(invalid(null, "Participant ID is required"));
+            } else if (status == null) {
+                results.add(invalid(participantId, "Invalid attendance status: " + update.getStatus()));
+            } else if (statusByParticipant.putIfAbsent(participantId, status) != null) {
+                results.add(invalid(participantId, "Participant listed more than once"));
+            } else {
+                // Filled in once the statement has run
+                results.add(null);
+            }
+        }
+
+        Roster roster = attendeeRosters.getIfLoaded(eventId);
+        Map<Long, String> previousByParticipant = statusByParticipant.isEmpty()
+                ? Map.of()
+                : attendanceRepository.updateStatuses(eventId, statusByParticipant, ALL_ATTENDANCE_STATUSES);
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) != null) {
+                continue;
+            }
+            Long participantId = updates.get(i).getParticipantId();
+            String status = statusByParticipant.get(participantId);
+            String previous = previousByParticipant.get(participantId);
+            if (previous == null) {
+                results.set(i, new AttendanceResultDTO(participantId, null, null,
+                        AttendanceResultDTO.Status.NOT_REGISTERED, NOT_REGISTERED));
+            } else {
+                statusChanged(roster, previous, status);
+                results.set(i, result(participantId, previous, status));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public AttendanceCountsDTO getCounts(Long eventId) {
+        Roster roster = attendeeRosters.get(eventId);
+        return new AttendanceCountsDTO(eventId, roster.getRegistered(), roster.getAttended());
+    }
+
+    /**
+     * Counts a change on the roster read before the update; a roster reloaded since already
+     * includes it.
+     */
+    private static void statusChanged(Roster roster, String previous, String status) {
+        if (roster != null) {
+            roster.statusChanged(previous, status);
+        }
+    }
+
+    private static AttendanceResultDTO result(Long participantId, String previous, String status) {
+        AttendanceResultDTO.Status outcome = previous.equals(status)
+                ? AttendanceResultDTO.Status.UNCHANGED
+                : AttendanceResultDTO.Status.UPDATED;
+        return new AttendanceResultDTO(participantId, previous, status, outcome, null);
+    }
+
+    private static AttendanceResultDTO invalid(Long participantId, String message) {
+        return new AttendanceResultDTO(participantId, null, null, AttendanceResultDTO.Status.INVALID, message);
+    }
+
+    private static String parseStatus(String status) {
+        String normalized = normalize(status);
+        if (normalized == null) {
+            throw new IllegalArgumentException("Invalid attendance status: " + status);
+        }
+        return normalized;
+    }
+
+    private static String normalize(String status) {
+        if (status == null) {
+            return null;
+        }
+        String upper = status.strip().toUpperCase(Locale.ROOT);
+        return ALL_ATTENDANCE_STATUSES.contains(upper) ? upper : null;
+    }
+}
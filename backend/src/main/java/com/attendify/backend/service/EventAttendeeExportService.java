@@ -0,0 +1,10 @@
+package com.attendify.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface EventAttendeeExportService {
+    void exportAttendees(Long eventId, Format format, OutputStream output) throws IOException;
+
+    enum Format {JSON, CSV}
+}
@@ -0,0 +1,246 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.dto.EventCountsDTO;
+import com.attendify.backend.exception.ResourceNotFoundException;
+import com.attendify.backend.repository.EventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes event counts to Server-Sent Events subscribers. Changed events are collected as
+ * {@link EventCountsListener} reports them and read back once per {@code flush-interval}, so a
+ * burst of registrations or check-ins costs one query per interval and each subscriber
+ * receives at most one message per interval, carrying the latest counts of every event it
+ * follows that changed.
+ * <p>
+ * A subscriber still busy writing a previous message is skipped; its pending counts are
+ * replaced by newer ones and sent when it catches up, so a slow client never holds up the
+ * others or receives stale intermediate values.
+ */
+@Slf4j
+@Component
+public class EventCountsBroadcaster {
+    static final String COUNTS_EVENT = "counts";
+    static final String RESYNC_EVENT = "resync";
+
+    private final EventRepository eventRepository;
+    private final long timeoutMillis;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public EventCountsBroadcaster(EventRepository eventRepository,
+                                  @Value("${attendify.live.timeout:PT30M}") Duration timeout) {
+        this.eventRepository = eventRepository;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Opens a stream of count changes of the given events, or of every event when
+     * {@code eventIds} is {@code null}. A stream of given events starts with their current counts.
+     */
+    public SseEmitter subscribe(Set<Long> eventIds) {
+        List<EventCountsDTO> initial = eventIds == null ? List.of() : findCounts(eventIds);
+        if (eventIds != null && initial.isEmpty()) {
+            throw new ResourceNotFoundException("No events found with ids: " + eventIds);
+        }
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, eventIds);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        initial.forEach(subscriber::offer);
+        subscriber.flush();
+        return emitter;
+    }
+
+    public void eventChanged(Long eventId) {
+        if (!subscribers.isEmpty()) {
+            changed.add(eventId);
+        }
+    }
+
+    /**
+     * Tells every subscriber to reload, after notifications may have been missed.
+     */
+    public void resync() {
+        changed.clear();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.resync = true;
+            subscriber.flush();
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Scheduled(fixedRateString = "${attendify.live.flush-interval:PT0.25S}")
+    public void flush() {
+        if (changed.isEmpty()) {
+            return;
+        }
+        List<Long> eventIds = new ArrayList<>();
+        for (Iterator<Long> it = changed.iterator(); it.hasNext(); ) {
+            Long eventId = it.next();
+            it.remove();
+            if (isFollowed(eventId)) {
+                eventIds.add(eventId);
+            }
+        }
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        List<EventCountsDTO> counts = findCounts(eventIds);
+        for (Subscriber subscriber : subscribers) {
+            for (EventCountsDTO eventCounts : counts) {
+                if (subscriber.follows(eventCounts.getEventId())) {
+                    subscriber.offer(eventCounts);
+                }
+            }
+            subscriber.flush();
+        }
+    }
+
+    /**
+     * Keeps idle streams from being closed by proxies and finds the clients that went away.
+     */
+    @Scheduled(fixedRateString = "${attendify.live.heartbeat-interval:PT20S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.send(SseEmitter.event().comment("keep-alive"));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.close();
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private boolean isFollowed(Long eventId) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.follows(eventId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<EventCountsDTO> findCounts(Iterable<Long> eventIds) {
+        List<Long> ids = new ArrayList<>();
+        eventIds.forEach(ids::add);
+        return eventRepository.findLiveCountsByIdIn(ids).stream()
+                .map(c -> new EventCountsDTO(c.getEventId(), c.getCapacity(), c.getTotalParticipants(),
+                        c.getRegistered(), c.getAttended()))
+                .toList();
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<Long> eventIds;
+        private final Map<Long, EventCountsDTO> pending = new ConcurrentHashMap<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean resync;
+
+        private Subscriber(SseEmitter emitter, Set<Long> eventIds) {
+            this.emitter = emitter;
+            this.eventIds = eventIds;
+        }
+
+        boolean follows(Long eventId) {
+            return eventIds == null || eventIds.contains(eventId);
+        }
+
+        void offer(EventCountsDTO counts) {
+            pending.put(counts.getEventId(), counts);
+        }
+
+        /**
+         * Sends the pending counts as one message, unless a send is still in progress.
+         */
+        void flush() {
+            if ((pending.isEmpty() && !resync) || !sending.compareAndSet(false, true)) {
+                return;
+            }
+            senders.execute(() -> {
+                try {
+                    if (resync) {
+                        resync = false;
+                        emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(""));
+                    }
+                    List<EventCountsDTO> batch = new ArrayList<>(pending.size());
+                    for (Long eventId : List.copyOf(pending.keySet())) {
+                        EventCountsDTO counts = pending.remove(eventId);
+                        if (counts != null) {
+                            batch.add(counts);
+                        }
+                    }
+                    if (!batch.isEmpty()) {
+                        emitter.send(SseEmitter.event().name(COUNTS_EVENT).data(batch, MediaType.APPLICATION_JSON));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    drop(e);
+                } finally {
+                    sending.set(false);
+                    flushIfStillSubscribed();
+                }
+            });
+        }
+
+        void send(SseEmitter.SseEventBuilder event) {
+            if (!sending.compareAndSet(false, true)) {
+                return;
+            }
+            senders.execute(() -> {
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    drop(e);
+                } finally {
+                    sending.set(false);
+                    flushIfStillSubscribed();
+                }
+            });
+        }
+
+        /**
+         * Counts offered while the send was in progress found it busy and were left pending;
+         * with no further change to trigger a flush they would never go out.
+         */
+        private void flushIfStillSubscribed() {
+            if (subscribers.contains(this)) {
+                flush();
+            }
+        }
+
+        private void drop(Exception e) {
+            log.debug("Dropping event counts subscriber: {}", e.getMessage());
+            subscribers.remove(this);
+            emitter.completeWithError(e);
+        }
+    }
+}
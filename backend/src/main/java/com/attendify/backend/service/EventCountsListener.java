@@ -0,0 +1,127 @@
+package com.attendify.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Listens on the {@code event_counts} channel, which the {@code event_participant} and
+ * {@code events} triggers notify with the ID of each event whose counts changed, and
+ * reports the events to {@link EventCountsBroadcaster}. Changes committed through any
+ * instance therefore reach the subscribers of every instance.
+ * <p>
+ * The listening connection is opened to the primary outside the pool, since it stays
+ * checked out for the life of the application. After it is lost, subscribers are told to
+ * reload, as notifications sent in between are gone.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "attendify.live", name = "listen", havingValue = "true", matchIfMissing = true)
+public class EventCountsListener implements SmartLifecycle {
+    static final String CHANNEL = "event_counts";
+
+    private static final int POLL_MILLIS = 10_000;
+
+    private final EventCountsBroadcaster broadcaster;
+    private final DataSourceProperties dataSourceProperties;
+    private final Duration reconnectDelay;
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    public EventCountsListener(EventCountsBroadcaster broadcaster,
+                               DataSourceProperties dataSourceProperties,
+                               @Value("${attendify.live.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        this.broadcaster = broadcaster;
+        this.dataSourceProperties = dataSourceProperties;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        thread = Thread.ofPlatform().daemon().name("event-counts-listener").start(this::run);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        closeConnection();
+        thread.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection listening = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                connection = listening;
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                broadcaster.resync();
+                listen(listening.unwrap(PGConnection.class));
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Lost the {} listener connection, reconnecting in {}: {}", CHANNEL, reconnectDelay, e.getMessage());
+                    sleep();
+                }
+            }
+        }
+    }
+
+    private void listen(PGConnection listening) throws SQLException {
+        while (running) {
+            PGNotification[] notifications = listening.getNotifications(POLL_MILLIS);
+            if (notifications == null || notifications.length == 0) {
+                // Polling alone does not notice a connection that died silently
+                if (!connection.isValid(POLL_MILLIS / 1000)) {
+                    throw new SQLException("Listener connection is no longer valid");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                try {
+                    broadcaster.eventChanged(Long.valueOf(notification.getParameter()));
+                } catch (NumberFormatException e) {
+                    log.warn("Ignoring {} notification with payload '{}'", CHANNEL, notification.getParameter());
+                }
+            }
+        }
+    }
+
+    private void closeConnection() {
+        Connection current = connection;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException e) {
+                log.debug("Closing the {} listener connection failed: {}", CHANNEL, e.getMessage());
+            }
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(reconnectDelay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.repository.EventParticipantBatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Creates the yearly {@code event_participant} partitions ahead of time. Saving an event dated
+ * in a year without a partition creates one as well, but that briefly locks the whole table
+ * inside the request, so this keeps the near future covered.
+ */
+@Slf4j
+@Component
+public class EventParticipantPartitionMaintainer {
+    private final EventParticipantBatchRepository eventParticipantBatchRepository;
+    private final Clock clock;
+    private final Duration horizon;
+
+    public EventParticipantPartitionMaintainer(EventParticipantBatchRepository eventParticipantBatchRepository,
+                                               Clock clock,
+                                               @Value("${attendify.partitions.horizon:P730D}") Duration horizon) {
+        this.eventParticipantBatchRepository = eventParticipantBatchRepository;
+        this.clock = clock;
+        this.horizon = horizon;
+    }
+
+    @Scheduled(initialDelayString = "PT1M", fixedDelayString = "${attendify.partitions.maintenance-interval:P1D}")
+    @Transactional
+    public int createUpcomingPartitions() {
+        Instant now = clock.instant();
+        int created = eventParticipantBatchRepository.ensurePartitions(now, now.plus(horizon));
+        if (created > 0) {
+            log.info("Created {} event_participant partitions through {}", created, now.plus(horizon));
+        }
+        return created;
+    }
+}
@@ -1,9 +1,22 @@
 package com.attendify.backend.service;
 
+import com.attendify.backend.dto.EventAttendeeDTO;
 import com.attendify.backend.dto.ParticipantDTO;
+import com.attendify.backend.dto.RegistrationResultDTO;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
 
 public interface EventParticipantService {
     ParticipantDTO addParticipantToEvent(Long eventId, ParticipantDTO participantDTO);
 
+    List<RegistrationResultDTO> addParticipantsToEvent(Long eventId, List<ParticipantDTO> participantDTOs);
+
     void removeParticipantFromEvent(Long eventId, Long participantId);
+
+    Page<EventAttendeeDTO> getEventAttendees(Long eventId, Pageable pageable);
+
+    List<ParticipantDTO> getEventParticipants(Long eventId);
 }
\ No newline at end of file
@@ -1,28 +1,63 @@
 package com.attendify.backend.service;
 
+import com.attendify.backend.configuration.CacheConfig;
 import com.attendify.backend.domain.Event;
 import com.attendify.backend.domain.EventParticipant;
 import com.attendify.backend.domain.EventParticipant.AttendanceStatus;
 import com.attendify.backend.domain.Participant;
+import com.attendify.backend.dto.EventAttendeeDTO;
 import com.attendify.backend.dto.ParticipantDTO;
+import com.attendify.backend.dto.RegistrationMessage;
+import com.attendify.backend.dto.RegistrationResultDTO;
+import com.attendify.backend.dto.RegistrationResultDTO.Status;
 import com.attendify.backend.exception.DuplicateResourceException;
+import com.attendify.backend.exception.EventFullException;
+import com.attendify.backend.exception.ResourceNotFoundException;
+import com.attendify.backend.mapper.ParticipantMapper;
+import com.attendify.backend.repository.EventAttendeeRepository;
+import com.attendify.backend.repository.EventParticipantBatchRepository;
 import com.attendify.backend.repository.EventParticipantRepository;
 import com.attendify.backend.repository.EventRepository;
 import com.attendify.backend.repository.ParticipantRepository;
+import com.attendify.backend.repository.RegistrationOutboxRepository;
+import com.attendify.backend.service.SeatReservations.Reservation;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class EventParticipantServiceImpl implements EventParticipantService {
+    static final int MAX_BATCH_SIZE = 10_000;
+    static final String EVENT_FULL = "Event is full";
 
     private final EventRepository eventRepository;
     private final ParticipantRepository participantRepository;
     private final EventParticipantRepository eventParticipantRepository;
+    private final EventParticipantBatchRepository eventParticipantBatchRepository;
+    private final EventAttendeeRepository eventAttendeeRepository;
+    private final RegistrationOutboxRepository registrationOutboxRepository;
+    private final SeatReservations seatReservations;
+    private final ParticipantMapper participantMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#eventId")
     public ParticipantDTO addParticipantToEvent(Long eventId, ParticipantDTO participantDTO) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new IllegalArgumentException("Event not found"));
@@ -35,18 +70,135 @@ public class EventParticipantServiceImpl implements EventParticipantService {
             throw new DuplicateResourceException("Participant already registered to event");
         }
 
+        Reservation reservation = seatReservations.reserve(eventId, SeatReservations.seatsOf(participant));
+        if (reservation == null) {
+            throw new EventFullException(EVENT_FULL);
+        }
+
         EventParticipant eventParticipant = new EventParticipant();
         eventParticipant.setEvent(event);
         eventParticipant.setParticipant(participant);
         eventParticipant.setAttendanceStatus(AttendanceStatus.REGISTERED);
 
-        eventParticipantRepository.save(eventParticipant);
+        try {
+            // Flushed here so a capacity refusal from the counter trigger surfaces as EventFullException
+            eventParticipantRepository.saveAndFlush(eventParticipant);
+        } catch (DataIntegrityViolationException e) {
+            throw refusedByDatabase(e, reservation);
+        }
+        registrationOutboxRepository.append(RegistrationMessage.Type.REGISTERED, eventId, List.of(participant.getId()));
+        eventPublisher.publishEvent(EventsChangedEvent.of(eventId));
 
         return participantDTO;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#eventId")
+    public List<RegistrationResultDTO> addParticipantsToEvent(Long eventId, List<ParticipantDTO> participantDTOs) {
+        if (participantDTOs == null || participantDTOs.isEmpty()) {
+            throw new IllegalArgumentException("Participant list cannot be empty");
+        }
+        if (participantDTOs.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch exceeds maximum size of " + MAX_BATCH_SIZE + " participants");
+        }
+        if (!eventRepository.existsById(eventId)) {
+            throw new IllegalArgumentException("Event not found");
+        }
+
+        Set<Long> requestedIds = new LinkedHashSet<>();
+        for (ParticipantDTO dto : participantDTOs) {
+            if (dto != null && dto.getId() != null) {
+                requestedIds.add(dto.getId());
+            }
+        }
+        Map<Long, Integer> seatCounts = new HashMap<>();
+        if (!requestedIds.isEmpty()) {
+            participantRepository.findSeatCounts(requestedIds)
+                    .forEach(seatCount -> seatCounts.put(seatCount.getId(), seatCount.getSeats()));
+        }
+        Set<Long> existingIds = seatCounts.keySet();
+        Set<Long> registeredIds = existingIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(eventParticipantRepository.findRegisteredParticipantIds(eventId, existingIds));
+
+        List<RegistrationResultDTO> results = new ArrayList<>(participantDTOs.size());
+        Map<Long, Reservation> toInsert = new LinkedHashMap<>();
+        Set<Long> seen = new HashSet<>();
+        Reservation reservation = null;
+        for (ParticipantDTO dto : participantDTOs) {
+            Long participantId = dto == null ? null : dto.getId();
+            if (participantId == null) {
+                results.add(new RegistrationResultDTO(null, Status.INVALID, "Participant ID is required"));
+            } else if (!existingIds.contains(participantId)) {
+                results.add(new RegistrationResultDTO(participantId, Status.NOT_FOUND, "Participant not found"));
+            } else if (registeredIds.contains(participantId) || !seen.add(participantId)) {
+                results.add(new RegistrationResultDTO(participantId, Status.ALREADY_REGISTERED,
+                        "Participant already registered to event"));
+            } else {
+                Reservation seats = seatReservations.reserve(eventId, seatCounts.get(participantId));
+                if (seats == null) {
+                    results.add(new RegistrationResultDTO(participantId, Status.EVENT_FULL, EVENT_FULL));
+                } else {
+                    reservation = seats;
+                    toInsert.put(participantId, seats);
+                    results.add(new RegistrationResultDTO(participantId, Status.REGISTERED, null));
+                }
+            }
+        }
+
+        if (toInsert.isEmpty()) {
+            return results;
+        }
+        List<Long> admitted = List.copyOf(toInsert.keySet());
+        Set<Long> full = Set.of();
+        Set<Long> inserted;
+        try {
+            // With a capacity the trigger may refuse the batch; the savepoint lets it fall back to the rows that fit
+            inserted = new HashSet<>(reservation.limited()
+                    ? eventParticipantBatchRepository.insertRegistrationsInSavepoint(eventId, admitted)
+                    : eventParticipantBatchRepository.insertRegistrations(eventId, admitted));
+        } catch (DataIntegrityViolationException e) {
+            if (!reservation.limited() || !SeatReservations.isCapacityViolation(e)) {
+                throw refusedByDatabase(e, reservation);
+            }
+            seatReservations.rejectedByDatabase(reservation);
+            List<Long> fitting = fittingInFreeSeats(eventId, admitted, seatCounts);
+            full = new HashSet<>(admitted);
+            full.removeAll(fitting);
+            try {
+                inserted = fitting.isEmpty()
+                        ? Set.of()
+                        : new HashSet<>(eventParticipantBatchRepository.insertRegistrations(eventId, fitting));
+            } catch (DataIntegrityViolationException retryRefused) {
+                throw refusedByDatabase(retryRefused, reservation);
+            }
+        }
+        if (inserted.size() < toInsert.size()) {
+            // Left out for lack of seats, or registered by a concurrent request after the lookup above
+            for (int i = 0; i < results.size(); i++) {
+                RegistrationResultDTO result = results.get(i);
+                Long participantId = result.getParticipantId();
+                if (result.getStatus() == Status.REGISTERED && !inserted.contains(participantId)) {
+                    seatReservations.releaseAfterCommit(toInsert.get(participantId));
+                    results.set(i, full.contains(participantId)
+                            ? new RegistrationResultDTO(participantId, Status.EVENT_FULL, EVENT_FULL)
+                            : new RegistrationResultDTO(participantId, Status.ALREADY_REGISTERED,
+                                    "Participant already registered to event"));
+                }
+            }
+        }
+        if (!inserted.isEmpty()) {
+            List<Long> registered = toInsert.keySet().stream().filter(inserted::contains).toList();
+            registrationOutboxRepository.append(RegistrationMessage.Type.REGISTERED, eventId, registered);
+            eventPublisher.publishEvent(EventsChangedEvent.of(eventId));
+        }
+        return results;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#eventId")
     public void removeParticipantFromEvent(Long eventId, Long participantId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new IllegalArgumentException("Event not found"));
@@ -54,6 +206,65 @@ public class EventParticipantServiceImpl implements EventParticipantService {
         Participant participant = participantRepository.findById(participantId)
                 .orElseThrow(() -> new IllegalArgumentException("Participant not found"));
 
-        eventParticipantRepository.deleteByEventAndParticipant(event, participant);
+        // A repeated or stale DELETE must not announce an unregistration that did not happen
+        if (eventParticipantRepository.deleteByEventAndParticipant(event, participant) > 0) {
+            seatReservations.releaseAfterCommit(eventId, SeatReservations.seatsOf(participant));
+            registrationOutboxRepository.append(RegistrationMessage.Type.UNREGISTERED, eventId, List.of(participantId));
+            eventPublisher.publishEvent(EventsChangedEvent.of(eventId));
+        }
+    }
+
+    @Override
+    @Transactional
+    public Page<EventAttendeeDTO> getEventAttendees(Long eventId, Pageable pageable) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new ResourceNotFoundException("Event not found with id: " + eventId);
+        }
+        return eventParticipantRepository.findAttendees(eventId, pageable)
+                .map(participantMapper::toDto);
+    }
+
+    @Override
+    @Transactional
+    public List<ParticipantDTO> getEventParticipants(Long eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new ResourceNotFoundException("Event not found with id: " + eventId);
+        }
+        List<ParticipantDTO> participants = new ArrayList<>();
+        eventAttendeeRepository.forEachAttendee(eventId, participants::add);
+        return participants;
+    }
+
+    /**
+     * The participants, in request order, that fit in the seats the event has left once its row
+     * is locked; a participant too large for the seats left does not stop smaller ones after it.
+     */
+    private List<Long> fittingInFreeSeats(Long eventId, List<Long> participantIds, Map<Long, Integer> seatCounts) {
+        Integer free = eventParticipantBatchRepository.lockFreeSeats(eventId);
+        if (free == null) {
+            return participantIds;
+        }
+        int left = free;
+        List<Long> fitting = new ArrayList<>();
+        for (Long participantId : participantIds) {
+            int seats = seatCounts.get(participantId);
+            if (seats <= left) {
+                fitting.add(participantId);
+                left -= seats;
+            }
+        }
+        return fitting;
+    }
+
+    /**
+     * The seat counters admitted a registration the counter trigger refused: the event filled up
+     * through another instance or a stale counter. The transaction rolls back either way.
+     */
+    private RuntimeException refusedByDatabase(DataIntegrityViolationException e, Reservation reservation) {
+        if (!SeatReservations.isCapacityViolation(e)) {
+            return e;
+        }
+        seatReservations.rejectedByDatabase(reservation);
+        return new EventFullException(EVENT_FULL);
     }
 }
@@ -1,13 +1,14 @@
 package com.attendify.backend.service;
 
 import com.attendify.backend.domain.Event;
+import com.attendify.backend.dto.EventDTO;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.Optional;
 
 public interface EventService {
-    List<Event> getFutureEvents();
-    List<Event> getPastEvents();
-    Event getEventById(Long id);
+    EventDTO getEventById(Long id);
+    Optional<Instant> getLastModified(Long id);
     Event createEvent(Event event);
     Event updateEvent(Event event);
     void deleteEvent(Long id);
@@ -1,64 +1,89 @@
 package com.attendify.backend.service;
 
+import com.attendify.backend.configuration.CacheConfig;
 import com.attendify.backend.domain.Event;
+import com.attendify.backend.dto.EventDTO;
 import com.attendify.backend.exception.ResourceNotFoundException;
+import com.attendify.backend.mapper.EventMapper;
 import com.attendify.backend.repository.EventRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.List;
+import java.time.OffsetDateTime;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class EventServiceImpl implements EventService {
     private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final SeatReservations seatReservations;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * Cached as a DTO: a cached entity would be one detached instance shared by every caller,
+     * and a caller changing it would change what everyone else reads until eviction.
+     */
     @Override
     @Transactional(readOnly = true)
-    public List<Event> getFutureEvents() {
-        return eventRepository.findByDateTimeAfterOrderByDateTime(Instant.now());
+    @Cacheable(cacheNames = CacheConfig.EVENTS, key = "#id")
+    public EventDTO getEventById(Long id) {
+        return eventMapper.toDto(findEvent(id));
     }
 
+    /**
+     * When the event row last changed, registrations included, without loading the entity.
+     */
     @Override
     @Transactional(readOnly = true)
-    public List<Event> getPastEvents() {
-        return eventRepository.findByDateTimeBeforeOrderByDateTimeDesc(Instant.now());
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public Event getEventById(Long id) {
-        return eventRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
+    public Optional<Instant> getLastModified(Long id) {
+        return eventRepository.findUpdatedAtById(id).map(OffsetDateTime::toInstant);
     }
 
     @Override
     @Transactional
     public Event createEvent(Event event) {
         validateEvent(event);
-        return eventRepository.save(event);
+        Event savedEvent = eventRepository.save(event);
+        eventPublisher.publishEvent(EventsChangedEvent.of(savedEvent.getId()));
+        return savedEvent;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#event.id")
     public Event updateEvent(Event event) {
-        Event existingEvent = getEventById(event.getId());
+        Event existingEvent = findEvent(event.getId());
         validateEvent(event);
         existingEvent.setName(event.getName());
         existingEvent.setDateTime(event.getDateTime());
         existingEvent.setLocation(event.getLocation());
         existingEvent.setStatus(event.getStatus());
         existingEvent.setAdditionalInfo(event.getAdditionalInfo());
+        existingEvent.setCapacity(event.getCapacity());
+        seatReservations.invalidateAfterCommit(existingEvent.getId());
+        eventPublisher.publishEvent(EventsChangedEvent.of(existingEvent.getId()));
         return eventRepository.save(existingEvent);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#id")
     public void deleteEvent(Long id) {
-        Event event = getEventById(id);
+        Event event = findEvent(id);
         eventRepository.delete(event);
+        seatReservations.invalidateAfterCommit(id);
+        eventPublisher.publishEvent(EventsChangedEvent.of(id));
+    }
+
+    private Event findEvent(Long id) {
+        return eventRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
     }
 
     private void validateEvent(Event event) {
@@ -77,6 +102,11 @@ public class EventServiceImpl implements EventService {
             throw new IllegalArgumentException("Event cannot be in the past");
         }
 
+        // Validate capacity; lowering it below the current total only stops new registrations
+        if (event.getCapacity() != null && event.getCapacity() <= 0) {
+            throw new IllegalArgumentException("Event capacity must be positive");
+        }
+
         // Validate status
         if (event.getStatus() == null || event.getStatus().trim().isEmpty()) {
             throw new IllegalArgumentException("Event status cannot be empty");
@@ -0,0 +1,180 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.domain.Event;
+import com.attendify.backend.dto.EventDTO;
+import com.attendify.backend.mapper.EventMapper;
+import com.attendify.backend.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory index of all events ordered by date. Future and past are not stored separately:
+ * each read splits the index at the current instant, so an event rolls into the past as
+ * soon as the clock passes it. Writes refresh only the affected events after commit; a
+ * periodic full reload picks up changes made outside this instance.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventTimeline {
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final Clock clock;
+
+    private volatile NavigableMap<Key, EventDTO> byDate = new ConcurrentSkipListMap<>();
+    private volatile Map<Long, Key> keysById = new ConcurrentHashMap<>();
+    // XOR of the fingerprints of all events, so a refresh updates it without a full pass
+    private volatile long contents;
+
+    /**
+     * Upcoming events, soonest first.
+     */
+    public List<EventDTO> getFutureEvents(int page, int size) {
+        return slice(byDate.tailMap(Key.lowest(clock.instant()), true), page, size);
+    }
+
+    /**
+     * Events that have already started, most recent first.
+     */
+    public List<EventDTO> getPastEvents(int page, int size) {
+        return slice(byDate.headMap(Key.lowest(clock.instant()), false).descendingMap(), page, size);
+    }
+
+    /**
+     * A validator for the future and past lists, equal on every instance holding the same
+     * events: it combines a fingerprint of the events with the start of the next upcoming
+     * event, when the lists next change by the clock alone. Read it before the lists, so a
+     * concurrent refresh can only make them newer than the version, never older.
+     */
+    public String getVersion() {
+        Key next = byDate.ceilingKey(Key.lowest(clock.instant()));
+        return Long.toHexString(contents) + "-" + (next == null ? "none" : next.dateTime().toEpochMilli());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${attendify.timeline.reload-interval:PT5M}",
+            fixedDelayString = "${attendify.timeline.reload-interval:PT5M}")
+    public synchronized void reload() {
+        NavigableMap<Key, EventDTO> newByDate = new ConcurrentSkipListMap<>();
+        Map<Long, Key> newKeysById = new ConcurrentHashMap<>();
+        long newContents = 0;
+        for (Event event : eventRepository.findAll()) {
+            Key key = Key.of(event);
+            EventDTO dto = eventMapper.toDto(event);
+            newByDate.put(key, dto);
+            newKeysById.put(event.getId(), key);
+            newContents ^= fingerprint(dto);
+        }
+        byDate = newByDate;
+        keysById = newKeysById;
+        contents = newContents;
+    }
+
+    /**
+     * Runs in a transaction of its own: after commit, the committed transaction's persistence
+     * context is still bound and would hand back its entities as they were before the counter
+     * triggers updated the rows. It is not read-only, so with replicas it reads the primary the
+     * change was just committed to.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onEventsChanged(EventsChangedEvent change) {
+        if (change.isAll()) {
+            reload();
+        } else {
+            refresh(change.eventIds());
+        }
+    }
+
+    synchronized void refresh(Set<Long> eventIds) {
+        Set<Long> missing = new HashSet<>(eventIds);
+        for (Event event : eventRepository.findAllById(eventIds)) {
+            missing.remove(event.getId());
+            remove(event.getId());
+            Key key = Key.of(event);
+            EventDTO dto = eventMapper.toDto(event);
+            byDate.put(key, dto);
+            keysById.put(event.getId(), key);
+            contents ^= fingerprint(dto);
+        }
+        missing.forEach(this::remove);
+    }
+
+    private void remove(Long eventId) {
+        Key key = keysById.remove(eventId);
+        if (key != null) {
+            EventDTO removed = byDate.remove(key);
+            if (removed != null) {
+                contents ^= fingerprint(removed);
+            }
+        }
+    }
+
+    /**
+     * The updated_at of an event changes with every edit and every registration.
+     */
+    private static long fingerprint(EventDTO event) {
+        long hash = event.getId() * 0x9E3779B97F4A7C15L;
+        if (event.getUpdatedAt() != null) {
+            hash ^= ChronoUnit.MICROS.between(Instant.EPOCH, event.getUpdatedAt().toInstant());
+        }
+        // Murmur3 finalizer, so that nearby ids and timestamps do not cancel out in the XOR
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static List<EventDTO> slice(NavigableMap<Key, EventDTO> events, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Page must be non-negative and size positive");
+        }
+        List<EventDTO> slice = new ArrayList<>(Math.min(size, 64));
+        long skip = (long) page * size;
+        for (EventDTO event : events.values()) {
+            if (skip > 0) {
+                skip--;
+            } else if (slice.size() < size) {
+                slice.add(event);
+            } else {
+                break;
+            }
+        }
+        return slice;
+    }
+
+    record Key(Instant dateTime, long id) implements Comparable<Key> {
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::dateTime).thenComparingLong(Key::id);
+
+        static Key of(Event event) {
+            return new Key(event.getDateTime(), event.getId());
+        }
+
+        static Key lowest(Instant dateTime) {
+            return new Key(dateTime, Long.MIN_VALUE);
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.attendify.backend.service;
+
+import java.util.Set;
+
+/**
+ * Published when events, or their participant totals, change. {@code eventIds} is
+ * {@code null} when the affected events are unknown and everything must be refreshed.
+ */
+public record EventsChangedEvent(Set<Long> eventIds) {
+
+    public static EventsChangedEvent of(Long eventId) {
+        return new EventsChangedEvent(Set.of(eventId));
+    }
+
+    public static EventsChangedEvent all() {
+        return new EventsChangedEvent(null);
+    }
+
+    public boolean isAll() {
+        return eventIds == null;
+    }
+}
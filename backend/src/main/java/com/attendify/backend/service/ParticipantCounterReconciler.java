@@ -0,0 +1,39 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.repository.EventParticipantRepository;
+import com.attendify.backend.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repairs drift in {@code events.total_participants}, which the database keeps up to date
+ * incrementally from {@code event_participant} changes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipantCounterReconciler {
+    private final EventRepository eventRepository;
+    private final EventParticipantRepository eventParticipantRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Scheduled(initialDelayString = "${attendify.counters.reconciliation-interval:PT15M}",
+            fixedDelayString = "${attendify.counters.reconciliation-interval:PT15M}")
+    @Transactional
+    public int reconcile() {
+        // Without the lock a registration committing after the UPDATE's snapshot bumps the events
+        // row, and the re-check of that row under READ COMMITTED writes the stale sum back over it
+        eventParticipantRepository.lockAgainstWrites();
+        int seats = eventParticipantRepository.reconcileSeatCounts();
+        int events = eventRepository.reconcileTotalParticipants();
+        if (seats > 0 || events > 0) {
+            log.warn("Repaired participant counter drift: {} registrations, {} events", seats, events);
+            eventPublisher.publishEvent(EventsChangedEvent.all());
+        }
+        return events;
+    }
+}
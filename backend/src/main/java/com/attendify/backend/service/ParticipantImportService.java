@@ -0,0 +1,12 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.dto.ParticipantImportEventDTO;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface ParticipantImportService {
+    ParticipantImportEventDTO importParticipants(InputStream input, Format format, Consumer<ParticipantImportEventDTO> listener);
+
+    enum Format {CSV, NDJSON}
+}
@@ -0,0 +1,211 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.domain.Company;
+import com.attendify.backend.domain.Participant;
+import com.attendify.backend.domain.Person;
+import com.attendify.backend.dto.ParticipantDTO;
+import com.attendify.backend.dto.ParticipantImportEventDTO;
+import com.attendify.backend.dto.ParticipantImportEventDTO.Type;
+import com.attendify.backend.mapper.ParticipantMapper;
+import com.attendify.backend.repository.ParticipantCopyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Streams participants from a CSV or NDJSON upload into the database in fixed-size chunks.
+ * At most one chunk is held in memory: the next chunk is not read until the previous one
+ * has been validated, written with {@code COPY} and reported.
+ */
+@Service
+@RequiredArgsConstructor
+public class ParticipantImportServiceImpl implements ParticipantImportService {
+    static final int CHUNK_SIZE = 1000;
+
+    private static final CsvMapper CSV_MAPPER = (CsvMapper) new CsvMapper()
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final ParticipantService participantService;
+    private final ParticipantMapper participantMapper;
+    private final ParticipantCopyRepository participantCopyRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public ParticipantImportEventDTO importParticipants(InputStream input, Format format,
+                                                       Consumer<ParticipantImportEventDTO> listener) {
+        ParticipantImportEventDTO progress = new ParticipantImportEventDTO(Type.PROGRESS, null, null, 0, 0, 0);
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (MappingIterator<ParticipantDTO> records = open(input, format)) {
+            while (records.hasNextValue()) {
+                long record = progress.getProcessed() + 1;
+                progress.setProcessed(record);
+                try {
+                    chunk.add(new Row(record, records.nextValue()));
+                } catch (JsonMappingException e) {
+                    reject(progress, record, "Malformed record: " + e.getOriginalMessage(), listener);
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(chunk, progress, listener);
+                    chunk.clear();
+                }
+            }
+            writeChunk(chunk, progress, listener);
+        } catch (JsonProcessingException e) {
+            return finish(progress, Type.FAILED, "Unreadable input after record " + progress.getProcessed()
+                    + ": " + e.getOriginalMessage(), listener);
+        } catch (IOException e) {
+            return finish(progress, Type.FAILED, "Upload interrupted: " + e.getMessage(), listener);
+        }
+        return finish(progress, Type.COMPLETED, null, listener);
+    }
+
+    private MappingIterator<ParticipantDTO> open(InputStream input, Format format) throws IOException {
+        return switch (format) {
+            case CSV -> CSV_MAPPER.readerFor(ParticipantDTO.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(input);
+            case NDJSON -> objectMapper.readerFor(ParticipantDTO.class).readValues(input);
+        };
+    }
+
+    private void writeChunk(List<Row> chunk, ParticipantImportEventDTO progress,
+                            Consumer<ParticipantImportEventDTO> listener) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Row> validated = chunk.parallelStream().map(this::validate).toList();
+        rejectDuplicates(validated);
+
+        List<Participant> accepted = validated.stream()
+                .filter(row -> row.error == null)
+                .map(row -> row.participant)
+                .toList();
+        String chunkError = null;
+        try {
+            transactionTemplate.executeWithoutResult(status -> participantCopyRepository.insertAll(accepted));
+        } catch (DataAccessException e) {
+            chunkError = "Chunk rejected by the database: " + e.getMostSpecificCause().getMessage();
+        }
+
+        for (Row row : validated) {
+            String error = row.error != null ? row.error : chunkError;
+            if (error != null) {
+                reject(progress, row.record, error, listener);
+            } else {
+                progress.setImported(progress.getImported() + 1);
+            }
+        }
+        listener.accept(copy(progress));
+    }
+
+    private Row validate(Row row) {
+        try {
+            Participant participant = participantMapper.toEntity(row.dto);
+            participantService.validateParticipant(participant);
+            Set<ConstraintViolation<Participant>> violations = validator.validate(participant);
+            if (!violations.isEmpty()) {
+                row.error = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+            }
+            row.participant = participant;
+        } catch (IllegalArgumentException e) {
+            row.error = e.getMessage();
+        }
+        return row;
+    }
+
+    /**
+     * Rejects rows whose personal or registration code repeats an earlier row of the chunk
+     * or an existing participant. Earlier chunks are already in the database, so one
+     * {@code IN} lookup per chunk covers duplicates across the whole upload.
+     */
+    private void rejectDuplicates(List<Row> rows) {
+        Set<String> personalCodes = new HashSet<>();
+        Set<String> registrationCodes = new HashSet<>();
+        for (Row row : rows) {
+            if (row.error != null) {
+                continue;
+            }
+            if (row.participant instanceof Person person && !personalCodes.add(person.getPersonalCode())) {
+                row.error = "Duplicate personal code in upload";
+            } else if (row.participant instanceof Company company && !registrationCodes.add(company.getRegistrationCode())) {
+                row.error = "Duplicate registration code in upload";
+            }
+        }
+
+        Set<String> existingPersonalCodes = personalCodes.isEmpty() ? Set.of()
+                : new HashSet<>(participantCopyRepository.findExistingPersonalCodes(personalCodes));
+        Set<String> existingRegistrationCodes = registrationCodes.isEmpty() ? Set.of()
+                : new HashSet<>(participantCopyRepository.findExistingRegistrationCodes(registrationCodes));
+        for (Row row : rows) {
+            if (row.error != null) {
+                continue;
+            }
+            if (row.participant instanceof Person person && existingPersonalCodes.contains(person.getPersonalCode())) {
+                row.error = "Person with this personal code already exists";
+            } else if (row.participant instanceof Company company
+                    && existingRegistrationCodes.contains(company.getRegistrationCode())) {
+                row.error = "Company with this registration code already exists";
+            }
+        }
+    }
+
+    private void reject(ParticipantImportEventDTO progress, long record, String message,
+                        Consumer<ParticipantImportEventDTO> listener) {
+        progress.setRejected(progress.getRejected() + 1);
+        listener.accept(new ParticipantImportEventDTO(Type.REJECTED, record, message,
+                progress.getProcessed(), progress.getImported(), progress.getRejected()));
+    }
+
+    private ParticipantImportEventDTO finish(ParticipantImportEventDTO progress, Type type, String message,
+                                             Consumer<ParticipantImportEventDTO> listener) {
+        ParticipantImportEventDTO result = copy(progress);
+        result.setType(type);
+        result.setMessage(message);
+        listener.accept(result);
+        return result;
+    }
+
+    private static ParticipantImportEventDTO copy(ParticipantImportEventDTO progress) {
+        return new ParticipantImportEventDTO(progress.getType(), null, null,
+                progress.getProcessed(), progress.getImported(), progress.getRejected());
+    }
+
+    private static final class Row {
+        private final long record;
+        private final ParticipantDTO dto;
+        private Participant participant;
+        private String error;
+
+        private Row(long record, ParticipantDTO dto) {
+            this.record = record;
+            this.dto = dto;
+        }
+    }
+}
@@ -1,19 +1,32 @@
 package com.attendify.backend.service;
 
 import com.attendify.backend.domain.Participant;
+import com.attendify.backend.dto.KeysetSlice;
+import com.attendify.backend.dto.ParticipantEventDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+import java.util.Optional;
+
 public interface ParticipantService {
     Page<Participant> getAllParticipants(Pageable pageable);
 
+    KeysetSlice<Participant> getParticipantsAfter(String cursor, int size);
+
     Participant getParticipantById(Long id);
 
+    Optional<Instant> getLastModified(Long id);
+
     Participant createParticipant(Participant participant);
 
+    void validateParticipant(Participant participant);
+
     Participant updateParticipant(Long id, Participant participantDetails);
 
     void deleteParticipant(Long id);
 
     Page<Participant> searchParticipants(String query, String type, String field, Pageable pageable);
+
+    Page<ParticipantEventDTO> getParticipantEvents(Long participantId, String attendanceStatus, String when, Pageable pageable);
 }
\ No newline at end of file
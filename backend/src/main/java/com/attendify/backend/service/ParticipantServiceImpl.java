@@ -1,54 +1,114 @@
 package com.attendify.backend.service;
 
+import com.attendify.backend.configuration.CacheConfig;
 import com.attendify.backend.domain.Company;
+import com.attendify.backend.domain.EventParticipant.AttendanceStatus;
 import com.attendify.backend.domain.Participant;
 import com.attendify.backend.domain.Person;
+import com.attendify.backend.dto.KeysetSlice;
+import com.attendify.backend.dto.ParticipantEventDTO;
 import com.attendify.backend.exception.DuplicateResourceException;
 import com.attendify.backend.exception.ResourceNotFoundException;
+import com.attendify.backend.mapper.EventMapper;
+import com.attendify.backend.repository.EventParticipantRepository;
 import com.attendify.backend.repository.ParticipantRepository;
+import com.attendify.backend.repository.search.ParticipantSearchRepository;
+import com.attendify.backend.validation.IdentifierValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class ParticipantServiceImpl implements ParticipantService {
     private final ParticipantRepository participantRepository;
+    private final ParticipantSearchRepository participantSearchRepository;
+    private final EventParticipantRepository eventParticipantRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeatReservations seatReservations;
+    private final EventMapper eventMapper;
+    private final Clock clock;
 
     private static final int PERSON_ADDITIONAL_INFO_MAX_LENGTH = 1000;
     private static final int COMPANY_ADDITIONAL_INFO_MAX_LENGTH = 5000;
+    private static final Instant EARLIEST = Instant.parse("0001-01-01T00:00:00Z");
+    private static final Instant LATEST = Instant.parse("9999-12-31T23:59:59Z");
+    private static final List<String> ALL_ATTENDANCE_STATUSES = Arrays.stream(AttendanceStatus.values())
+            .map(Enum::name)
+            .toList();
 
     @Override
     public Page<Participant> getAllParticipants(Pageable pageable) {
         return participantRepository.findAll(pageable);
     }
 
+    @Override
+    public KeysetSlice<Participant> getParticipantsAfter(String cursor, int size) {
+        Long afterId = KeysetSlice.decodeCursor(cursor);
+        Slice<Participant> slice = participantRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId == null ? 0L : afterId, PageRequest.of(0, size));
+        List<Participant> content = slice.getContent();
+        Long lastId = content.isEmpty() ? null : content.getLast().getId();
+        return new KeysetSlice<>(content, PageRequest.of(0, size), slice.hasNext(), lastId);
+    }
+
     @Override
     public Participant getParticipantById(Long id) {
         return participantRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Participant not found with id: " + id));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> getLastModified(Long id) {
+        return participantRepository.findUpdatedAtById(id);
+    }
+
     @Override
     @Transactional
     public Participant createParticipant(Participant participant) {
+        validateParticipant(participant);
         switch (participant) {
-            case null -> throw new IllegalArgumentException("Participant cannot be null");
             case Person person -> {
-                validateEstonianPersonalCode(person.getPersonalCode());
-                validateAdditionalInfoLength(person.getAdditionalInfo(), PERSON_ADDITIONAL_INFO_MAX_LENGTH, "Person");
                 if (participantRepository.existsByPersonalCode(person.getPersonalCode())) {
                     throw new DuplicateResourceException("Person with this personal code already exists");
                 }
             }
             case Company company -> {
-                validateRegistrationCode(company.getRegistrationCode());
-                validateAdditionalInfoLength(company.getAdditionalInfo(), COMPANY_ADDITIONAL_INFO_MAX_LENGTH, "Company");
                 if (participantRepository.existsByRegistrationCode(company.getRegistrationCode())) {
                     throw new DuplicateResourceException("Company with this registration code already exists");
                 }
+            }
+            default -> throw new IllegalStateException("Unexpected participant type: " + participant.getClass().getName());
+        }
+        return participantRepository.save(participant);
+    }
+
+    @Override
+    public void validateParticipant(Participant participant) {
+        switch (participant) {
+            case null -> throw new IllegalArgumentException("Participant cannot be null");
+            case Person person -> {
+                validateEstonianPersonalCode(person.getPersonalCode());
+                validateAdditionalInfoLength(person.getAdditionalInfo(), PERSON_ADDITIONAL_INFO_MAX_LENGTH, "Person");
+            }
+            case Company company -> {
+                validateRegistrationCode(company.getRegistrationCode());
+                validateAdditionalInfoLength(company.getAdditionalInfo(), COMPANY_ADDITIONAL_INFO_MAX_LENGTH, "Company");
                 if (company.getParticipantCount() == null || company.getParticipantCount() < 1) {
                     company.setParticipantCount(1);
                 }
@@ -56,11 +116,11 @@ public class ParticipantServiceImpl implements ParticipantService {
             default ->
                     throw new IllegalArgumentException("Unknown participant type: " + participant.getClass().getName());
         }
-        return participantRepository.save(participant);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, allEntries = true)
     public Participant updateParticipant(Long id, Participant participantDetails) {
         if (participantDetails == null) {
             throw new IllegalArgumentException("Participant details cannot be null");
@@ -99,6 +159,9 @@ public class ParticipantServiceImpl implements ParticipantService {
             }
             company.setCompanyName(companyDetails.getCompanyName());
             company.setRegistrationCode(companyDetails.getRegistrationCode());
+            if (!Objects.equals(company.getParticipantCount(), companyDetails.getParticipantCount())) {
+                publishEventsChanged(company.getId());
+            }
             company.setParticipantCount(companyDetails.getParticipantCount());
             company.setContactPerson(companyDetails.getContactPerson());
             company.setEmail(companyDetails.getEmail());
@@ -110,8 +173,10 @@ public class ParticipantServiceImpl implements ParticipantService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, allEntries = true)
     public void deleteParticipant(Long id) {
         Participant participant = getParticipantById(id);
+        publishEventsChanged(id);
         participantRepository.delete(participant);
     }
 
@@ -124,50 +189,72 @@ public class ParticipantServiceImpl implements ParticipantService {
         type = type == null ? "" : type.toLowerCase();
         field = field == null ? "" : field.toLowerCase();
 
-        return switch (type) {
-            case "person" -> participantRepository.searchPersonsByField(query, field, pageable);
-            case "company" -> participantRepository.searchCompaniesByField(query, field, pageable);
-            default -> participantRepository.searchParticipantsByField(query, field, pageable);
+        String participantType = switch (type) {
+            case "person" -> "PERSON";
+            case "company" -> "COMPANY";
+            default -> null;
         };
+        return participantSearchRepository.search(query, participantType, field, pageable);
     }
 
-    void validateEstonianPersonalCode(String personalCode) {
-        if (personalCode == null) {
-            throw new IllegalArgumentException("Personal code cannot be null");
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ParticipantEventDTO> getParticipantEvents(Long participantId, String attendanceStatus, String when,
+                                                          Pageable pageable) {
+        if (!participantRepository.existsById(participantId)) {
+            throw new ResourceNotFoundException("Participant not found with id: " + participantId);
         }
-        if (!personalCode.matches("^[0-6]\\d{10}$")) {
-            throw new IllegalArgumentException("Invalid Estonian personal code format");
+        boolean allStatuses = attendanceStatus == null || attendanceStatus.isEmpty();
+        List<String> statuses = attendanceStatuses(attendanceStatus);
+        Instant now = clock.instant();
+        // Event date bounds rather than optional predicates, so the planner can prune partitions
+        Instant from = EARLIEST;
+        Instant to = LATEST;
+        switch (when == null ? "all" : when.toLowerCase()) {
+            case "all" -> {
+            }
+            case "past" -> to = now;
+            case "upcoming" -> from = now;
+            default -> throw new IllegalArgumentException("Invalid 'when': must be past, upcoming or all");
         }
+        return eventParticipantRepository.findParticipantEvents(participantId, allStatuses, statuses, from, to, pageable)
+                .map(eventMapper::toDto);
+    }
 
-        int[] weights1 = {1, 2, 3, 4, 5, 6, 7, 8, 9, 1};
-        int[] weights2 = {3, 4, 5, 6, 7, 8, 9, 1, 2, 3};
-        int sum = 0;
-        for (int i = 0; i < 10; i++) {
-            sum += Character.getNumericValue(personalCode.charAt(i)) * weights1[i];
+    private static List<String> attendanceStatuses(String attendanceStatus) {
+        if (attendanceStatus == null || attendanceStatus.isEmpty()) {
+            return ALL_ATTENDANCE_STATUSES;
         }
-        int checksum = sum % 11;
-        if (checksum == 10) {
-            sum = 0;
-            for (int i = 0; i < 10; i++) {
-                sum += Character.getNumericValue(personalCode.charAt(i)) * weights2[i];
-            }
-            checksum = sum % 11;
-            if (checksum == 10) {
-                checksum = 0;
-            }
+        try {
+            return List.of(AttendanceStatus.valueOf(attendanceStatus.toUpperCase()).name());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid attendance status: " + attendanceStatus);
         }
-        int expectedChecksum = Character.getNumericValue(personalCode.charAt(10));
-        if (checksum != expectedChecksum) {
-            throw new IllegalArgumentException("Invalid Estonian personal code checksum");
+    }
+
+    void validateEstonianPersonalCode(String personalCode) {
+        String error = IdentifierValidator.checkPersonalCode(personalCode);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
         }
     }
 
     void validateRegistrationCode(String registrationCode) {
-        if (registrationCode == null) {
-            throw new IllegalArgumentException("Registration code cannot be null");
+        String error = IdentifierValidator.checkRegistrationCode(registrationCode);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
         }
-        if (!registrationCode.matches("^\\d{8}$")) {
-            throw new IllegalArgumentException("Invalid registration code format: must be 8 digits");
+    }
+
+    /**
+     * The participant's seats in every event it is registered for change with this transaction,
+     * so those events' seat counters are re-read once it commits.
+     */
+    private void publishEventsChanged(Long participantId) {
+        List<Long> eventIds = eventParticipantRepository.findEventIdsByParticipantId(participantId);
+        if (!eventIds.isEmpty()) {
+            eventIds.forEach(seatReservations::invalidateAfterCommit);
+            eventPublisher.publishEvent(new EventsChangedEvent(Set.copyOf(eventIds)));
         }
     }
 
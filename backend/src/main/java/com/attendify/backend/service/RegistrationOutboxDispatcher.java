@@ -0,0 +1,93 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.dto.RegistrationMessage;
+import com.attendify.backend.repository.RegistrationOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drains the registration outbox in batches and hands each message to every
+ * {@link RegistrationOutboxHandler}, off the request path. Failed messages are retried with
+ * exponential backoff and marked {@code FAILED} after {@code max-attempts}.
+ */
+@Slf4j
+@Component
+public class RegistrationOutboxDispatcher {
+    private final RegistrationOutboxRepository outboxRepository;
+    private final List<RegistrationOutboxHandler> handlers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration retryDelay;
+    private final Duration retention;
+
+    public RegistrationOutboxDispatcher(RegistrationOutboxRepository outboxRepository,
+                                        ObjectProvider<RegistrationOutboxHandler> handlers,
+                                        @Value("${attendify.outbox.batch-size:100}") int batchSize,
+                                        @Value("${attendify.outbox.max-attempts:10}") int maxAttempts,
+                                        @Value("${attendify.outbox.lease:PT5M}") Duration lease,
+                                        @Value("${attendify.outbox.retry-delay:PT5S}") Duration retryDelay,
+                                        @Value("${attendify.outbox.retention:P7D}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.handlers = handlers.orderedStream().toList();
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.retryDelay = retryDelay;
+        this.retention = retention;
+    }
+
+    /**
+     * Delivers due messages until a claim comes back short. Returns the number claimed.
+     */
+    @Scheduled(initialDelayString = "${attendify.outbox.poll-interval:PT1S}",
+            fixedDelayString = "${attendify.outbox.poll-interval:PT1S}")
+    public int dispatch() {
+        int claimed = 0;
+        List<RegistrationMessage> batch;
+        do {
+            batch = outboxRepository.claimBatch(batchSize, lease);
+            claimed += batch.size();
+            List<Long> delivered = new ArrayList<>(batch.size());
+            for (RegistrationMessage message : batch) {
+                if (deliver(message)) {
+                    delivered.add(message.id());
+                }
+            }
+            outboxRepository.markDone(delivered);
+        } while (batch.size() == batchSize);
+        return claimed;
+    }
+
+    @Scheduled(initialDelayString = "${attendify.outbox.purge-interval:PT1H}",
+            fixedDelayString = "${attendify.outbox.purge-interval:PT1H}")
+    public int purge() {
+        return outboxRepository.purgeDone(retention);
+    }
+
+    private boolean deliver(RegistrationMessage message) {
+        try {
+            for (RegistrationOutboxHandler handler : handlers) {
+                handler.handle(message);
+            }
+            return true;
+        } catch (RuntimeException e) {
+            boolean giveUp = message.attempts() >= maxAttempts;
+            Duration delay = retryDelay.multipliedBy(1L << Math.min(message.attempts() - 1, 10));
+            outboxRepository.markFailed(message.id(), e.toString(), delay, giveUp);
+            if (giveUp) {
+                log.error("Giving up on outbox message {} after {} attempts", message, message.attempts(), e);
+            } else {
+                log.warn("Outbox message {} failed, retrying in {}: {}", message, delay, e.toString());
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.dto.RegistrationMessage;
+
+/**
+ * A downstream consumer of registration changes, e.g. confirmation emails or badge printing.
+ * Delivery is at least once: a message is redelivered to every handler if any handler throws,
+ * so handlers must be idempotent.
+ */
+public interface RegistrationOutboxHandler {
+
+    void handle(RegistrationMessage message);
+}
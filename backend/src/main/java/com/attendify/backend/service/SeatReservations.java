@@ -0,0 +1,324 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.domain.Company;
+import com.attendify.backend.domain.Participant;
+import com.attendify.backend.domain.Person;
+import com.attendify.backend.repository.EventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.util.PSQLException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.BatchUpdateException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Admission control for events with a capacity. The free seats of each event are held in
+ * striped atomic counters, so concurrent sign-ups reserve with a CAS on their own stripe
+ * instead of queueing on the event row, and a sold-out event is refused without a database
+ * round trip.
+ * <p>
+ * The counters are a filter, not the arbiter: the conditional update in the
+ * {@code event_participant} insert trigger has the final say. They are read from the database
+ * on first use and re-read when the database refuses a registration they admitted, when the
+ * event is updated or a registered participant is deleted or changes its seat count, and, at
+ * most once per refresh interval, when they report an event full,
+ * which also picks up seats freed on other instances. A re-read does not see reservations
+ * still in flight, so it can briefly admit too many; the trigger refuses those.
+ */
+@Component
+public class SeatReservations {
+    public static final String REJECTED_METRIC = "attendify.seats.rejected";
+    /** Constraint name the counter trigger reports when an insert would exceed an event's capacity. */
+    public static final String CAPACITY_CONSTRAINT = "events_capacity_check";
+
+    private static final int MAX_STRIPES = 64;
+    private static final int MIN_SEATS_PER_STRIPE = 8;
+    // Stripes sit 16 ints, one cache line, apart so CAS on neighbouring stripes does not false-share
+    private static final int PADDING = 16;
+    private static final int MAX_GATHER_ATTEMPTS = 4;
+
+    private final EventRepository eventRepository;
+    private final long refreshIntervalNanos;
+    private final Counter rejectedInMemory;
+    private final Counter rejectedByDatabase;
+    private final Map<Long, Seats> seatsByEvent = new ConcurrentHashMap<>();
+
+    public SeatReservations(EventRepository eventRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${attendify.seats.refresh-interval:PT5S}") Duration refreshInterval) {
+        this.eventRepository = eventRepository;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.rejectedInMemory = meterRegistry.counter(REJECTED_METRIC, "by", "memory");
+        this.rejectedByDatabase = meterRegistry.counter(REJECTED_METRIC, "by", "database");
+    }
+
+    /**
+     * Seats a registration occupies, by the same rule as the {@code seat_count} trigger.
+     */
+    public static int seatsOf(Participant participant) {
+        if (participant instanceof Person) {
+            return 1;
+        }
+        if (participant instanceof Company company && company.getParticipantCount() != null) {
+            return company.getParticipantCount();
+        }
+        return 0;
+    }
+
+    /**
+     * Whether the database refused a registration because the event is full, as opposed to
+     * another integrity violation.
+     */
+    public static boolean isCapacityViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BatchUpdateException batch && isCapacityViolation(batch.getNextException())) {
+                return true;
+            }
+            if (isCapacityViolation(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCapacityViolation(Throwable e) {
+        return e instanceof PSQLException psql && psql.getServerErrorMessage() != null
+                && CAPACITY_CONSTRAINT.equals(psql.getServerErrorMessage().getConstraint());
+    }
+
+    /**
+     * Takes {@code seats} seats of the event, or returns {@code null} if it is full. Inside a
+     * transaction the seats are given back automatically if it rolls back; outside one the
+     * caller must {@link Reservation#release()} them if the registration is not written.
+     */
+    public Reservation reserve(Long eventId, int seats) {
+        Seats current = seatsFor(eventId);
+        if (current.unlimited || seats <= 0) {
+            return new Reservation(eventId, current, 0, 0);
+        }
+        int stripe = current.tryAcquire(seats);
+        if (stripe < 0 && System.nanoTime() - current.loadedAt > refreshIntervalNanos) {
+            current = refresh(eventId, current);
+            stripe = current.unlimited ? 0 : current.tryAcquire(seats);
+        }
+        if (stripe < 0) {
+            rejectedInMemory.increment();
+            return null;
+        }
+        Reservation reservation = new Reservation(eventId, current, stripe, current.unlimited ? 0 : seats);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        reservation.release();
+                    }
+                }
+            });
+        }
+        return reservation;
+    }
+
+    /**
+     * Records that the database refused a registration the counters admitted, so they are
+     * re-read before the next reservation.
+     */
+    public void rejectedByDatabase(Reservation reservation) {
+        rejectedByDatabase.increment();
+        seatsByEvent.remove(reservation.eventId(), reservation.seats());
+    }
+
+    /**
+     * Gives {@code seats} freed by an unregistration back once the transaction commits.
+     */
+    public void releaseAfterCommit(Long eventId, int seats) {
+        afterCommit(() -> {
+            Seats current = seatsByEvent.get(eventId);
+            if (current != null && !current.unlimited && seats > 0) {
+                current.release(current.homeStripe(), seats);
+            }
+        });
+    }
+
+    /**
+     * Gives back the seats of a reservation whose registration was not written after all, once
+     * the transaction commits; a rollback gives them back by itself.
+     */
+    public void releaseAfterCommit(Reservation reservation) {
+        afterCommit(reservation::release);
+    }
+
+    /**
+     * Drops the counters of an event whose capacity may have changed once the transaction commits.
+     */
+    public void invalidateAfterCommit(Long eventId) {
+        afterCommit(() -> seatsByEvent.remove(eventId));
+    }
+
+    /**
+     * The counter reconciler repaired totals of unknown events.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true,
+            condition = "#event.all")
+    public void onAllEventsChanged(EventsChangedEvent event) {
+        seatsByEvent.clear();
+    }
+
+    private Seats seatsFor(Long eventId) {
+        Seats current = seatsByEvent.get(eventId);
+        if (current != null) {
+            return current;
+        }
+        Seats loaded = load(eventId);
+        current = seatsByEvent.putIfAbsent(eventId, loaded);
+        return current != null ? current : loaded;
+    }
+
+    private Seats refresh(Long eventId, Seats stale) {
+        Seats loaded = load(eventId);
+        if (seatsByEvent.replace(eventId, stale, loaded)) {
+            return loaded;
+        }
+        // Another thread refreshed or invalidated it first
+        return seatsFor(eventId);
+    }
+
+    private Seats load(Long eventId) {
+        return eventRepository.findSeatStateById(eventId)
+                .filter(state -> state.getCapacity() != null)
+                .map(state -> new Seats(state.getCapacity() - state.getTotalParticipants()))
+                .orElse(Seats.UNLIMITED);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Seats held for one registration until it commits or is released.
+     */
+    public record Reservation(Long eventId, Seats seats, int stripe, int count) {
+
+        /**
+         * Whether the event had a capacity when the seats were reserved.
+         */
+        public boolean limited() {
+            return !seats.unlimited;
+        }
+
+        public void release() {
+            if (count > 0) {
+                seats.release(stripe, count);
+            }
+        }
+    }
+
+    /**
+     * One generation of an event's free seats, split across a power-of-two number of stripes.
+     * A thread takes from its home stripe and only gathers from the others when that runs dry.
+     */
+    static final class Seats {
+        static final Seats UNLIMITED = new Seats();
+
+        final boolean unlimited;
+        final long loadedAt = System.nanoTime();
+        private final int mask;
+        private final AtomicIntegerArray free;
+
+        private Seats() {
+            this.unlimited = true;
+            this.mask = 0;
+            this.free = new AtomicIntegerArray(0);
+        }
+
+        Seats(int available) {
+            int seats = Math.max(available, 0);
+            int stripes = Integer.highestOneBit(Math.clamp(seats / MIN_SEATS_PER_STRIPE, 1, MAX_STRIPES));
+            this.unlimited = false;
+            this.mask = stripes - 1;
+            this.free = new AtomicIntegerArray(stripes * PADDING);
+            for (int i = 0; i < stripes; i++) {
+                free.set(i * PADDING, seats / stripes + (i < seats % stripes ? 1 : 0));
+            }
+        }
+
+        /**
+         * Returns the stripe to release the seats to, or -1 if there are not enough free seats.
+         */
+        int tryAcquire(int seats) {
+            int home = homeStripe();
+            if (take(home, seats, false) == seats) {
+                return home;
+            }
+            for (int attempt = 0; attempt < MAX_GATHER_ATTEMPTS; attempt++) {
+                int gathered = 0;
+                for (int i = 0; i <= mask && gathered < seats; i++) {
+                    gathered += take((home + i) & mask, seats - gathered, true);
+                }
+                if (gathered == seats) {
+                    return home;
+                }
+                release(home, gathered);
+                // Only give up when the seats are really gone, not just held by other gatherers
+                if (available() < seats) {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        void release(int stripe, int seats) {
+            free.addAndGet(stripe * PADDING, seats);
+        }
+
+        int available() {
+            int sum = 0;
+            for (int i = 0; i <= mask; i++) {
+                sum += free.get(i * PADDING);
+            }
+            return sum;
+        }
+
+        int homeStripe() {
+            long id = Thread.currentThread().threadId();
+            int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+            return (hash >>> 16) & mask;
+        }
+
+        /**
+         * Takes {@code wanted} seats from the stripe, or as many as it has if {@code partial}.
+         */
+        private int take(int stripe, int wanted, boolean partial) {
+            int index = stripe * PADDING;
+            while (true) {
+                int current = free.get(index);
+                int taken = Math.min(current, wanted);
+                if (taken <= 0 || (!partial && taken < wanted)) {
+                    return 0;
+                }
+                if (free.compareAndSet(index, current, current - taken)) {
+                    return taken;
+                }
+            }
+        }
+    }
+}
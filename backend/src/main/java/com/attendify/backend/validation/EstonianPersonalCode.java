@@ -0,0 +1,26 @@
+package com.attendify.backend.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A valid Estonian personal code, checked by {@link IdentifierValidator#checkPersonalCode}.
+ * {@code null} is valid; combine with {@code @NotBlank} where the code is required.
+ */
+@Documented
+@Constraint(validatedBy = EstonianPersonalCodeValidator.class)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EstonianPersonalCode {
+    String message() default "Personal code must be a valid 11-digit Estonian isikukood";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,12 @@
+package com.attendify.backend.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class EstonianPersonalCodeValidator implements ConstraintValidator<EstonianPersonalCode, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || IdentifierValidator.checkPersonalCode(value) == null;
+    }
+}
@@ -0,0 +1,97 @@
+package com.attendify.backend.validation;
+
+/**
+ * Single-pass checks for Estonian personal codes (isikukood) and company registration codes.
+ * Each check returns {@code null} for a valid code or one of the constant messages below.
+ */
+public final class IdentifierValidator {
+    public static final String PERSONAL_CODE_NULL = "Personal code cannot be null";
+    public static final String PERSONAL_CODE_FORMAT = "Invalid Estonian personal code format";
+    public static final String PERSONAL_CODE_DATE = "Invalid Estonian personal code date of birth";
+    public static final String PERSONAL_CODE_CHECKSUM = "Invalid Estonian personal code checksum";
+    public static final String REGISTRATION_CODE_NULL = "Registration code cannot be null";
+    public static final String REGISTRATION_CODE_FORMAT = "Invalid registration code format: must be 8 digits";
+
+    private static final int PERSONAL_CODE_LENGTH = 11;
+    private static final int REGISTRATION_CODE_LENGTH = 8;
+    private static final int[] WEIGHTS_1 = {1, 2, 3, 4, 5, 6, 7, 8, 9, 1};
+    private static final int[] WEIGHTS_2 = {3, 4, 5, 6, 7, 8, 9, 1, 2, 3};
+
+    private IdentifierValidator() {
+    }
+
+    /**
+     * Checks the format {@code GYYMMDDSSSC}: G is 1-6 (century and gender, 1800-2099), YYMMDD
+     * a real calendar date in that century and C the mod-11 check digit.
+     */
+    public static String checkPersonalCode(CharSequence code) {
+        if (code == null) {
+            return PERSONAL_CODE_NULL;
+        }
+        if (code.length() != PERSONAL_CODE_LENGTH) {
+            return PERSONAL_CODE_FORMAT;
+        }
+        int sum1 = 0;
+        int sum2 = 0;
+        int date = 0;
+        for (int i = 0; i < PERSONAL_CODE_LENGTH - 1; i++) {
+            int digit = code.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return PERSONAL_CODE_FORMAT;
+            }
+            sum1 += digit * WEIGHTS_1[i];
+            sum2 += digit * WEIGHTS_2[i];
+            if (i >= 1 && i <= 6) {
+                date = date * 10 + digit;
+            }
+        }
+        int checkDigit = code.charAt(PERSONAL_CODE_LENGTH - 1) - '0';
+        int centuryDigit = code.charAt(0) - '0';
+        if (checkDigit < 0 || checkDigit > 9 || centuryDigit < 1 || centuryDigit > 6) {
+            return PERSONAL_CODE_FORMAT;
+        }
+
+        int year = 1800 + (centuryDigit - 1) / 2 * 100 + date / 10_000;
+        int month = date / 100 % 100;
+        int day = date % 100;
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+            return PERSONAL_CODE_DATE;
+        }
+
+        int checksum = sum1 % 11;
+        if (checksum == 10) {
+            checksum = sum2 % 11;
+            if (checksum == 10) {
+                checksum = 0;
+            }
+        }
+        return checksum == checkDigit ? null : PERSONAL_CODE_CHECKSUM;
+    }
+
+    /**
+     * Checks that the code is exactly eight ASCII digits.
+     */
+    public static String checkRegistrationCode(CharSequence code) {
+        if (code == null) {
+            return REGISTRATION_CODE_NULL;
+        }
+        if (code.length() != REGISTRATION_CODE_LENGTH) {
+            return REGISTRATION_CODE_FORMAT;
+        }
+        for (int i = 0; i < REGISTRATION_CODE_LENGTH; i++) {
+            char c = code.charAt(i);
+            if (c < '0' || c > '9') {
+                return REGISTRATION_CODE_FORMAT;
+            }
+        }
+        return null;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+}
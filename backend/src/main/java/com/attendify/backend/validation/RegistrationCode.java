@@ -0,0 +1,26 @@
+package com.attendify.backend.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An 8-digit company registration code, checked by {@link IdentifierValidator#checkRegistrationCode}.
+ * {@code null} is valid; combine with {@code @NotBlank} where the code is required.
+ */
+@Documented
+@Constraint(validatedBy = RegistrationCodeValidator.class)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RegistrationCode {
+    String message() default "Registration code must be 8 digits";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,51 @@
+package com.attendify.backend;
+
+import com.attendify.backend.configuration.SqlStatementCounter;
+import net.ttddyy.dsproxy.QueryType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pins the number of SQL statements a test runs on its own thread. Call {@link #reset()}
+ * before the code under test, then assert on the counts, and {@link #clear()} after the test
+ * so the pooled test thread stops counting.
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static void reset() {
+        SqlStatementCounter.start();
+    }
+
+    public static void clear() {
+        SqlStatementCounter.stop();
+    }
+
+    public static void assertSelectCount(int expected) {
+        assertCount(QueryType.SELECT, expected);
+    }
+
+    public static void assertInsertCount(int expected) {
+        assertCount(QueryType.INSERT, expected);
+    }
+
+    public static void assertUpdateCount(int expected) {
+        assertCount(QueryType.UPDATE, expected);
+    }
+
+    public static void assertDeleteCount(int expected) {
+        assertCount(QueryType.DELETE, expected);
+    }
+
+    public static void assertStatementCount(int expected) {
+        SqlStatementCounter.Counts counts = SqlStatementCounter.current();
+        assertEquals(expected, counts.getTotal(), () -> "SQL statements: " + counts);
+    }
+
+    private static void assertCount(QueryType type, int expected) {
+        SqlStatementCounter.Counts counts = SqlStatementCounter.current();
+        assertEquals(expected, counts.get(type), () -> type + " statements: " + counts);
+    }
+}
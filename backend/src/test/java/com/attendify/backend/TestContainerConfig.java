@@ -4,19 +4,25 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
 
+/**
+ * One PostgreSQL container for the whole test run. Started once here rather than per class
+ * by the Testcontainers extension, because Spring caches application contexts across test
+ * classes and a cached context must keep pointing at a running database. Ryuk removes the
+ * container when the JVM exits.
+ */
 @SpringBootTest
-@Testcontainers
 public abstract class TestContainerConfig {
 
-    @Container
     private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15")
             .withDatabaseName("attendify_test")
             .withUsername("test")
             .withPassword("test");
 
+    static {
+        postgres.start();
+    }
+
     @DynamicPropertySource
     static void configureProperties(DynamicPropertyRegistry registry) {
         registry.add("spring.datasource.url", postgres::getJdbcUrl);
@@ -25,4 +31,4 @@ public abstract class TestContainerConfig {
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "none"); // Liquibase управляет схемой
         registry.add("spring.liquibase.change-log", () -> "classpath:db/changelog/db.changelog-master.yaml");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.attendify.backend;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Fixture rows shared by the integration tests. The test classes share one database, so each
+ * inserts its participants with ids from its own {@link IdBlock}, far above the ids the
+ * sequences hand out, and never sees another class's rows.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    /**
+     * The participant id block of each test class that inserts its own participants. Add a
+     * constant here rather than picking a range in the test.
+     */
+    public enum IdBlock {
+        EVENT_CAPACITY,
+        PARTICIPANT_HISTORY,
+        CHECK_IN,
+        EVENT_COUNTS_STREAM,
+        EVENT_ATTENDEE_QUERY_COUNT,
+        BATCH_REGISTRATION,
+        EVENT_EXPORT,
+        PARTICIPANT_COUNTER,
+        // Keep last: cursor pagination walks every id above its first one
+        PARTICIPANT_CURSOR_PAGINATION;
+
+        private static final long FIRST_ID = 90_000_000L;
+        private static final long SIZE = 1_000_000L;
+
+        public long firstId() {
+            return FIRST_ID + ordinal() * SIZE;
+        }
+    }
+
+    /**
+     * Inserts {@code count} persons from {@code firstId} on, paying by card, with the id as
+     * their personal code. Rows left by an earlier test are kept.
+     */
+    public static void insertPersons(JdbcTemplate jdbcTemplate, long firstId, int count,
+                                     String firstName, String lastName) {
+        long lastId = firstId + count - 1;
+        jdbcTemplate.update("INSERT INTO participants (id, participant_type, payment_method) "
+                + "SELECT g, 'PERSON', 'CARD' FROM generate_series(?::bigint, ?::bigint) g ON CONFLICT DO NOTHING",
+                firstId, lastId);
+        jdbcTemplate.update("INSERT INTO persons (id, first_name, last_name, personal_code) "
+                + "SELECT g, ?, ?, lpad(g::text, 11, '0') "
+                + "FROM generate_series(?::bigint, ?::bigint) g ON CONFLICT DO NOTHING",
+                firstName, lastName, firstId, lastId);
+    }
+}
@@ -0,0 +1,37 @@
+package com.attendify.backend.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Bulk fixtures for the benchmarks, generated server-side with {@code generate_series}.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static void insertPersons(JdbcTemplate jdbcTemplate, long firstId, int count) {
+        long lastId = firstId + count - 1;
+        jdbcTemplate.update("INSERT INTO participants (id, participant_type) "
+                + "SELECT g, 'PERSON' FROM generate_series(?::bigint, ?::bigint) g", firstId, lastId);
+        jdbcTemplate.update("INSERT INTO persons (id, first_name, last_name, personal_code) "
+                + "SELECT g, 'Bench', 'Person', LPAD(g::text, 11, '0') FROM generate_series(?::bigint, ?::bigint) g",
+                firstId, lastId);
+        jdbcTemplate.execute("ANALYZE participants");
+        jdbcTemplate.execute("ANALYZE persons");
+    }
+
+    static void insertEvents(JdbcTemplate jdbcTemplate, long firstId, int count) {
+        jdbcTemplate.update("INSERT INTO events (id, name, date_time) "
+                + "SELECT g, 'bench-' || g, now() + (g - ?) * interval '1 minute' "
+                + "FROM generate_series(?::bigint, ?::bigint) g", firstId, firstId, firstId + count - 1);
+        jdbcTemplate.execute("ANALYZE events");
+    }
+
+    static void registerAll(JdbcTemplate jdbcTemplate, long eventId, long firstParticipantId, int count) {
+        jdbcTemplate.update("INSERT INTO event_participant (event_id, participant_id, event_date_time) "
+                + "SELECT e.id, g, e.date_time FROM events e, generate_series(?::bigint, ?::bigint) g WHERE e.id = ?",
+                firstParticipantId, firstParticipantId + count - 1, eventId);
+        jdbcTemplate.execute("ANALYZE event_participant");
+    }
+}
@@ -0,0 +1,82 @@
+package com.attendify.backend.benchmark;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.dto.CheckInResultDTO;
+import com.attendify.backend.service.AttendeeRosters;
+import com.attendify.backend.service.CheckInService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Door scans against one event: {@code -Dbenchmark.scanners=...} concurrent scanners (default
+ * 50) check in {@code -Dbenchmark.attendees=...} registrations (default 20,000), each badge once,
+ * after the roster has been warmed as it would be before the doors open.
+ */
+@Tag("benchmark")
+class CheckInBenchmark extends TestContainerConfig {
+
+    private static final int SCANNERS = Integer.getInteger("benchmark.scanners", 50);
+    private static final int ATTENDEES = Integer.getInteger("benchmark.attendees", 20_000);
+    private static final long FIRST_PARTICIPANT_ID = 300_000_000L;
+    private static final long EVENT_ID = 300_000_000L;
+
+    @Autowired
+    private CheckInService checkInService;
+
+    @Autowired
+    private AttendeeRosters attendeeRosters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentScans() throws InterruptedException {
+        BenchmarkData.insertPersons(jdbcTemplate, FIRST_PARTICIPANT_ID, ATTENDEES);
+        BenchmarkData.insertEvents(jdbcTemplate, EVENT_ID, 1);
+        BenchmarkData.registerAll(jdbcTemplate, EVENT_ID, FIRST_PARTICIPANT_ID, ATTENDEES);
+        attendeeRosters.warm(EVENT_ID);
+
+        long[] samples = new long[ATTENDEES];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger checkedIn = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        long began;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int s = 0; s < SCANNERS; s++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = next.getAndIncrement(); i < ATTENDEES; i = next.getAndIncrement()) {
+                        String code = String.format("%011d", FIRST_PARTICIPANT_ID + i);
+                        long scanStart = System.nanoTime();
+                        CheckInResultDTO result = checkInService.checkIn(EVENT_ID, code);
+                        samples[i] = System.nanoTime() - scanStart;
+                        if (result.getStatus() == CheckInResultDTO.Status.CHECKED_IN) {
+                            checkedIn.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            began = System.nanoTime();
+            start.countDown();
+        }
+        double seconds = (System.nanoTime() - began) / 1e9;
+
+        assertEquals(ATTENDEES, checkedIn.get());
+        assertEquals(ATTENDEES, checkInService.getCounts(EVENT_ID).getAttended());
+        Arrays.sort(samples);
+        System.out.printf("scanners=%d scans=%,d in %.1f s (%.0f/s): p50=%.3f ms p99=%.3f ms max=%.3f ms%n",
+                SCANNERS, ATTENDEES, seconds, ATTENDEES / seconds,
+                samples[ATTENDEES / 2] / 1e6, samples[ATTENDEES * 99 / 100] / 1e6, samples[ATTENDEES - 1] / 1e6);
+    }
+}
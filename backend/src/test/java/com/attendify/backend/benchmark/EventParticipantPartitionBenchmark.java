@@ -0,0 +1,136 @@
+package com.attendify.backend.benchmark;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.service.EventParticipantService;
+import com.attendify.backend.service.ParticipantCounterReconciler;
+import com.attendify.backend.service.ParticipantService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reads against a partitioned {@code event_participant} holding years of registrations.
+ * Size it with {@code -Dbenchmark.registrations=...} (default 100M),
+ * {@code -Dbenchmark.events=...} and {@code -Dbenchmark.participants=...}; the events are
+ * spread over the last ten years and the next one.
+ */
+@Tag("benchmark")
+class EventParticipantPartitionBenchmark extends TestContainerConfig {
+
+    private static final long REGISTRATIONS = Long.getLong("benchmark.registrations", 100_000_000L);
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 20_000);
+    private static final int PARTICIPANTS = Integer.getInteger("benchmark.participants", 1_000_000);
+    private static final int SAMPLES = 500;
+    private static final int EVENTS_PER_STATEMENT = 100;
+    private static final long FIRST_PARTICIPANT_ID = 100_000_000L;
+    private static final long FIRST_EVENT_ID = 100_000_000L;
+
+    @Autowired
+    private EventParticipantService eventParticipantService;
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private ParticipantCounterReconciler participantCounterReconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void readsTouchOnlyTheirPartitions() {
+        createRegistrations();
+
+        String attendeesPlan = explainAnalyze("SELECT participant_id FROM event_participant "
+                + "WHERE event_id = " + FIRST_EVENT_ID + " AND event_date_time = "
+                + "(SELECT date_time FROM events WHERE id = " + FIRST_EVENT_ID + ")");
+        // Pruned at run time, once the subquery has produced the event's date
+        assertTrue(attendeesPlan.contains("(never executed)"), attendeesPlan);
+
+        String upcomingPlan = explainAnalyze("SELECT event_id FROM event_participant "
+                + "WHERE participant_id = " + FIRST_PARTICIPANT_ID + " AND event_date_time >= now()");
+        // Pruned at executor startup, now() being stable
+        assertTrue(upcomingPlan.contains("Subplans Removed"), upcomingPlan);
+
+        String historyPlan = explainAnalyze("SELECT event_id, event_date_time, attendance_status, registered_at "
+                + "FROM event_participant WHERE participant_id = " + FIRST_PARTICIPANT_ID
+                + " ORDER BY registered_at DESC LIMIT 20");
+        // Served by idx_event_participant_history without visiting the heap
+        assertTrue(historyPlan.contains("Index Only Scan"), historyPlan);
+
+        Random random = new Random(42);
+        measure("attendees page", i -> eventParticipantService.getEventAttendees(
+                FIRST_EVENT_ID + random.nextInt(EVENTS), PageRequest.of(0, 50)));
+        measure("events of participant", i -> jdbcTemplate.queryForList(
+                "SELECT event_id FROM event_participant WHERE participant_id = ?",
+                Long.class, FIRST_PARTICIPANT_ID + random.nextInt(PARTICIPANTS)));
+        measure("upcoming events of participant", i -> jdbcTemplate.queryForList(
+                "SELECT event_id FROM event_participant WHERE participant_id = ? AND event_date_time >= now()",
+                Long.class, FIRST_PARTICIPANT_ID + random.nextInt(PARTICIPANTS)));
+        measure("history page of participant", i -> participantService.getParticipantEvents(
+                FIRST_PARTICIPANT_ID + random.nextInt(PARTICIPANTS), null, null, PageRequest.of(0, 20)));
+    }
+
+    private void createRegistrations() {
+        BenchmarkData.insertPersons(jdbcTemplate, FIRST_PARTICIPANT_ID, PARTICIPANTS);
+        jdbcTemplate.update("INSERT INTO events (id, name, date_time) "
+                        + "SELECT g, 'bench-' || g, now() - interval '10 years' + (g - ?) * (interval '11 years' / ?) "
+                        + "FROM generate_series(?::bigint, ?::bigint) g",
+                FIRST_EVENT_ID, EVENTS, FIRST_EVENT_ID, FIRST_EVENT_ID + EVENTS - 1);
+
+        long perEvent = Math.min(PARTICIPANTS, REGISTRATIONS / EVENTS);
+        long start = System.nanoTime();
+        // Bulk load without the per-row seat count trigger and foreign key checks; the rows
+        // reference existing events and persons by construction, and the counters are rebuilt below
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET session_replication_role = replica");
+                try {
+                    for (int offset = 0; offset < EVENTS; offset += EVENTS_PER_STATEMENT) {
+                        long from = FIRST_EVENT_ID + offset;
+                        long to = Math.min(from + EVENTS_PER_STATEMENT, FIRST_EVENT_ID + EVENTS) - 1;
+                        statement.execute("INSERT INTO event_participant (event_id, participant_id, event_date_time, seat_count) "
+                                + "SELECT e.id, " + FIRST_PARTICIPANT_ID + " + (g * 7919 + e.id) % " + PARTICIPANTS
+                                + ", e.date_time, 1 "
+                                + "FROM events e, generate_series(0, " + (perEvent - 1) + ") g "
+                                + "WHERE e.id BETWEEN " + from + " AND " + to);
+                    }
+                } finally {
+                    statement.execute("SET session_replication_role = DEFAULT");
+                }
+            }
+            return null;
+        });
+        // Also sets the visibility map, without which no scan is index-only
+        jdbcTemplate.execute("VACUUM ANALYZE event_participant");
+        participantCounterReconciler.reconcile();
+        System.out.printf("registrations=%,d events=%,d loaded in %.1f s%n",
+                perEvent * EVENTS, EVENTS, (System.nanoTime() - start) / 1e9);
+    }
+
+    private String explainAnalyze(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN (ANALYZE, COSTS OFF) " + sql, String.class));
+    }
+
+    private static void measure(String name, LongConsumer query) {
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            query.accept(i);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        System.out.printf("%s: p50=%.3f ms p99=%.3f ms%n", name,
+                samples[SAMPLES / 2] / 1e6, samples[SAMPLES * 99 / 100] / 1e6);
+    }
+}
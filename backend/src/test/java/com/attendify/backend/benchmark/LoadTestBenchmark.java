@@ -0,0 +1,156 @@
+package com.attendify.backend.benchmark;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.configuration.SqlStatementCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * End-to-end load test: bulk-loads a realistic dataset, then drives search, registration,
+ * event listing and attendee export traffic through HTTP, first each scenario alone and then
+ * mixed. Size it with {@code -Dbenchmark.participants}, {@code -Dbenchmark.events},
+ * {@code -Dbenchmark.registrations}, {@code -Dbenchmark.clients} and
+ * {@code -Dbenchmark.seconds}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoadTestBenchmark extends TestContainerConfig {
+
+    private static final int PARTICIPANTS = Integer.getInteger("benchmark.participants", 2_000_000);
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 1_000);
+    private static final long REGISTRATIONS = Long.getLong("benchmark.registrations", 2_000_000L);
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 64);
+    private static final Duration PHASE = Duration.ofSeconds(Integer.getInteger("benchmark.seconds", 30));
+    private static final long SEED = 42;
+    private static final long FIRST_PARTICIPANT_ID = 50_000_000L;
+    private static final long FIRST_EVENT_ID = 50_000_000L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    private final AtomicLong nextPersonalCode = new AtomicLong();
+
+    @Test
+    void mixedTraffic() throws Exception {
+        long begin = System.nanoTime();
+        LoadTestData.insertParticipants(jdbcTemplate, FIRST_PARTICIPANT_ID, PARTICIPANTS, SEED);
+        LoadTestData.insertEvents(jdbcTemplate, FIRST_EVENT_ID, EVENTS);
+        LoadTestData.registerSkewed(jdbcTemplate, FIRST_EVENT_ID, EVENTS,
+                FIRST_PARTICIPANT_ID, PARTICIPANTS, REGISTRATIONS, SEED);
+        System.out.printf("participants=%,d events=%,d registrations=%,d loaded in %.1f s%n", PARTICIPANTS, EVENTS,
+                jdbcTemplate.queryForObject("SELECT count(*) FROM event_participant", Long.class),
+                (System.nanoTime() - begin) / 1e9);
+        // Registrations create persons with codes after the bulk-loaded ones
+        nextPersonalCode.set(PARTICIPANTS);
+
+        List<LoadTestRunner.Scenario> scenarios = List.of(
+                new LoadTestRunner.Scenario("search", 50, this::search),
+                new LoadTestRunner.Scenario("list-events", 30, this::listEvents),
+                new LoadTestRunner.Scenario("register", 15, this::register),
+                new LoadTestRunner.Scenario("export", 5, this::export));
+        LoadTestRunner runner = new LoadTestRunner(CLIENTS, meterRegistry, sqlStatementCounter);
+
+        runner.run("warmup", PHASE.dividedBy(3), scenarios);
+        List<LoadTestRunner.Result> results = new ArrayList<>();
+        for (LoadTestRunner.Scenario scenario : scenarios) {
+            results.addAll(runner.run("alone", PHASE, List.of(scenario)));
+        }
+        results.addAll(runner.run("mixed", PHASE, scenarios));
+
+        System.out.printf("clients=%,d phase=%s%n", CLIENTS, PHASE);
+        results.forEach(LoadTestRunner.Result::print);
+        results.forEach(result -> assertEquals(0, result.errors(), result.phase() + "/" + result.scenario()));
+    }
+
+    private boolean search(ThreadLocalRandom random) throws Exception {
+        String name = LoadTestData.skewedName(LoadTestData.LAST_NAMES, random);
+        String query = name.substring(0, Math.min(name.length(), 3 + random.nextInt(2)));
+        return get("/api/participants?field=all&size=10&query=" + URLEncoder.encode(query, StandardCharsets.UTF_8)
+                + "&page=" + random.nextInt(3));
+    }
+
+    private boolean listEvents(ThreadLocalRandom random) throws Exception {
+        return get("/api/events?size=100&page=" + random.nextInt(3));
+    }
+
+    private boolean export(ThreadLocalRandom random) throws Exception {
+        return get("/api/events/" + (FIRST_EVENT_ID + random.nextInt(EVENTS)) + "/participants/export?format=CSV");
+    }
+
+    /**
+     * A new person signing up for a popular event: create, then register, as the frontend does.
+     */
+    private boolean register(ThreadLocalRandom random) throws Exception {
+        String firstName = LoadTestData.skewedName(LoadTestData.FIRST_NAMES, random);
+        String body = objectMapper.writeValueAsString(Map.of(
+                "type", "PERSON",
+                "firstName", firstName,
+                "lastName", LoadTestData.skewedName(LoadTestData.LAST_NAMES, random),
+                "personalCode", LoadTestData.personalCode(nextPersonalCode.getAndIncrement()),
+                "paymentMethod", "CARD"));
+        HttpResponse<String> created = client.send(post("/api/participants", body), HttpResponse.BodyHandlers.ofString());
+        if (created.statusCode() != 201) {
+            return false;
+        }
+        long id = objectMapper.readTree(created.body()).get("id").asLong();
+        long eventId = FIRST_EVENT_ID + Math.min(EVENTS - 1, (long) (EVENTS * Math.pow(random.nextDouble(), 4)));
+        HttpResponse<Void> registered = client.send(post("/api/events/" + eventId + "/participants", "{\"id\":" + id + "}"),
+                HttpResponse.BodyHandlers.discarding());
+        return registered.statusCode() == 201;
+    }
+
+    private boolean get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(path)).timeout(Duration.ofMinutes(2)).build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .timeout(Duration.ofMinutes(2))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
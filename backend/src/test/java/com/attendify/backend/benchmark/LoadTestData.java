@@ -0,0 +1,192 @@
+package com.attendify.backend.benchmark;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Realistic bulk fixtures for {@link LoadTestBenchmark}: persons with valid isikukood
+ * checksums, companies, and registrations whose per-event counts follow a Zipf distribution.
+ * Everything is derived from a seed, so two runs with the same sizes load the same data.
+ */
+final class LoadTestData {
+
+    static final String[] FIRST_NAMES = {"Mari", "Jüri", "Anna", "Andres", "Kati", "Mart", "Liis", "Toomas",
+            "Maria", "Jaan", "Eva", "Peeter", "Kadri", "Rein", "Laura", "Tiit", "Helen", "Margus", "Elena", "Sergei"};
+    static final String[] LAST_NAMES = {"Tamm", "Saar", "Sepp", "Mägi", "Kask", "Kukk", "Rebane", "Ilves", "Pärn",
+            "Koppel", "Ivanov", "Lepik", "Kuusk", "Karu", "Vaher", "Lepp", "Kivi", "Põder", "Mets", "Smirnov"};
+
+    /** Every {@code COMPANY_EVERY}-th participant is a company, the rest are persons. */
+    static final int COMPANY_EVERY = 10;
+
+    private static final LocalDate FIRST_BIRTH_DATE = LocalDate.of(1940, 1, 1);
+    private static final int BIRTH_DAYS = (int) (LocalDate.of(2010, 1, 1).toEpochDay() - FIRST_BIRTH_DATE.toEpochDay());
+    private static final int[] WEIGHTS_1 = {1, 2, 3, 4, 5, 6, 7, 8, 9, 1};
+    private static final int[] WEIGHTS_2 = {3, 4, 5, 6, 7, 8, 9, 1, 2, 3};
+    private static final int COPY_CHUNK = 50_000;
+    private static final double ZIPF_EXPONENT = 1.1;
+
+    private LoadTestData() {
+    }
+
+    /**
+     * The {@code n}-th distinct valid personal code: serial number, birth date and gender are
+     * taken from {@code n} in that order, so codes are unique for the first 51M values.
+     */
+    static String personalCode(long n) {
+        long days = n / 1000;
+        if (n < 0 || days / BIRTH_DAYS > 1) {
+            throw new IllegalArgumentException("No distinct personal code for index " + n);
+        }
+        LocalDate birthDate = FIRST_BIRTH_DATE.plusDays(days % BIRTH_DAYS);
+        int female = (int) (days / BIRTH_DAYS);
+        int centuryAndGender = (birthDate.getYear() < 2000 ? 3 : 5) + female;
+
+        int[] digits = new int[11];
+        digits[0] = centuryAndGender;
+        put(digits, 1, birthDate.getYear() % 100);
+        put(digits, 3, birthDate.getMonthValue());
+        put(digits, 5, birthDate.getDayOfMonth());
+        int serial = (int) (n % 1000);
+        digits[7] = serial / 100;
+        put(digits, 8, serial % 100);
+        digits[10] = checksum(digits);
+
+        char[] code = new char[11];
+        for (int i = 0; i < code.length; i++) {
+            code[i] = (char) ('0' + digits[i]);
+        }
+        return new String(code);
+    }
+
+    private static void put(int[] digits, int position, int twoDigits) {
+        digits[position] = twoDigits / 10;
+        digits[position + 1] = twoDigits % 10;
+    }
+
+    private static int checksum(int[] digits) {
+        int checksum = weightedSum(digits, WEIGHTS_1) % 11;
+        if (checksum == 10) {
+            checksum = weightedSum(digits, WEIGHTS_2) % 11;
+        }
+        return checksum == 10 ? 0 : checksum;
+    }
+
+    private static int weightedSum(int[] digits, int[] weights) {
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += digits[i] * weights[i];
+        }
+        return sum;
+    }
+
+    /**
+     * A name drawn with a skew towards the start of {@code names}, like real surname frequencies.
+     */
+    static String skewedName(String[] names, Random random) {
+        return names[(int) (names.length * Math.pow(random.nextDouble(), 3))];
+    }
+
+    /**
+     * Copies {@code count} participants with ids from {@code firstId}. Participant {@code firstId + i}
+     * is a company when {@code i % COMPANY_EVERY == 0} and otherwise a person with personal code
+     * {@code personalCode(i)}.
+     */
+    static void insertParticipants(JdbcTemplate jdbcTemplate, long firstId, int count, long seed) {
+        Random random = new Random(seed);
+        String[] paymentMethods = {"BANK_TRANSFER", "CASH", "CARD"};
+        for (int start = 0; start < count; start += COPY_CHUNK) {
+            int end = Math.min(count, start + COPY_CHUNK);
+            StringBuilder participants = new StringBuilder();
+            StringBuilder persons = new StringBuilder();
+            StringBuilder companies = new StringBuilder();
+            for (int i = start; i < end; i++) {
+                long id = firstId + i;
+                boolean company = i % COMPANY_EVERY == 0;
+                participants.append(id).append(',').append(company ? "COMPANY" : "PERSON").append(',')
+                        .append(paymentMethods[random.nextInt(paymentMethods.length)]).append('\n');
+                String lastName = skewedName(LAST_NAMES, random);
+                if (company) {
+                    companies.append(id).append(",").append(lastName).append(" Grupp ").append(i / COMPANY_EVERY)
+                            .append(',').append(String.format("%08d", i / COMPANY_EVERY)).append(',')
+                            .append(1 + random.nextInt(20)).append(',')
+                            .append(skewedName(FIRST_NAMES, random)).append(' ').append(lastName).append(',')
+                            .append("info").append(i).append("@firma.ee\n");
+                } else {
+                    String firstName = skewedName(FIRST_NAMES, random);
+                    persons.append(id).append(',').append(firstName).append(',').append(lastName).append(',')
+                            .append(personalCode(i)).append(',')
+                            .append(firstName.toLowerCase()).append('.').append(i).append("@example.ee,")
+                            .append("+3725").append(String.format("%07d", i % 10_000_000)).append('\n');
+                }
+            }
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+                copy(copyManager, "participants (id, participant_type, payment_method)", participants);
+                copy(copyManager, "persons (id, first_name, last_name, personal_code, email, phone)", persons);
+                copy(copyManager, "companies (id, company_name, registration_code, participant_count, contact_person, email)",
+                        companies);
+                return null;
+            });
+        }
+        jdbcTemplate.execute("ANALYZE participants");
+        jdbcTemplate.execute("ANALYZE persons");
+        jdbcTemplate.execute("ANALYZE companies");
+    }
+
+    /**
+     * Events spread evenly over the year before and the year after now.
+     */
+    static void insertEvents(JdbcTemplate jdbcTemplate, long firstId, int count) {
+        jdbcTemplate.update("INSERT INTO events (id, name, date_time, location) "
+                + "SELECT g, 'load-' || g, now() - interval '365 days' + (g - ?) * (interval '730 days' / ?::int), "
+                + "'Tallinn' FROM generate_series(?::bigint, ?::bigint) g",
+                firstId, count, firstId, firstId + count - 1);
+        jdbcTemplate.execute("ANALYZE events");
+    }
+
+    /**
+     * Spreads about {@code registrations} registrations over the events so that the event of
+     * rank {@code k} gets a share proportional to {@code 1 / k^1.1}. Each event takes a
+     * contiguous, wrapping run of participants from a random offset.
+     */
+    static void registerSkewed(JdbcTemplate jdbcTemplate, long firstEventId, int events,
+                               long firstParticipantId, int participants, long registrations, long seed) {
+        Random random = new Random(seed);
+        double harmonic = 0;
+        for (int k = 1; k <= events; k++) {
+            harmonic += 1 / Math.pow(k, ZIPF_EXPONENT);
+        }
+        for (int k = 1; k <= events; k++) {
+            long attendees = Math.min(participants,
+                    Math.round(registrations / (Math.pow(k, ZIPF_EXPONENT) * harmonic)));
+            if (attendees == 0) {
+                continue;
+            }
+            jdbcTemplate.update("INSERT INTO event_participant (event_id, participant_id, event_date_time) "
+                            + "SELECT e.id, ? + (g + ?) % ?, e.date_time "
+                            + "FROM events e, generate_series(0, ?::bigint - 1) g WHERE e.id = ?",
+                    firstParticipantId, random.nextInt(participants), participants, attendees, firstEventId + k - 1);
+        }
+        jdbcTemplate.execute("ANALYZE event_participant");
+    }
+
+    private static void copy(CopyManager copyManager, String target, StringBuilder rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            copyManager.copyIn("COPY " + target + " FROM STDIN WITH (FORMAT csv)", new StringReader(rows.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
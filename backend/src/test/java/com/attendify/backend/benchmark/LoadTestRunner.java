@@ -0,0 +1,156 @@
+package com.attendify.backend.benchmark;
+
+import com.attendify.backend.configuration.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives weighted scenarios from a fixed number of concurrent clients for a fixed time and
+ * reports throughput, an HdrHistogram of latencies, connection-pool wait and statement
+ * counts. Pool wait comes from Hikari's {@code hikaricp.connections.acquire} timer and
+ * statements from {@link SqlStatementCounter}; both are server-wide, so they are only
+ * attributable to a scenario in a phase that runs it alone.
+ */
+final class LoadTestRunner {
+
+    /**
+     * One kind of request. {@code request} returns whether the call succeeded.
+     */
+    record Scenario(String name, int weight, Request request) {
+    }
+
+    @FunctionalInterface
+    interface Request {
+        boolean execute(ThreadLocalRandom random) throws Exception;
+    }
+
+    record Result(String phase, String scenario, long requests, long errors, double seconds, Histogram latencies,
+                  long statements, long poolWaitNanos) {
+
+        void print() {
+            System.out.printf("phase=%s scenario=%s requests=%,d errors=%,d throughput=%.0f req/s "
+                            + "p50=%.2f ms p90=%.2f ms p99=%.2f ms p99.9=%.2f ms max=%.2f ms "
+                            + "statements/req=%s pool-wait/req=%s%n",
+                    phase, scenario, requests, errors, requests / seconds,
+                    millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(90)),
+                    millis(latencies.getValueAtPercentile(99)), millis(latencies.getValueAtPercentile(99.9)),
+                    millis(latencies.getMaxValue()),
+                    statements < 0 ? "n/a" : String.format("%.1f", (double) statements / Math.max(1, requests)),
+                    poolWaitNanos < 0 ? "n/a" : String.format("%.3f ms", millis(poolWaitNanos) / Math.max(1, requests)));
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1e6;
+        }
+    }
+
+    private final int clients;
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementCounter statementCounter;
+
+    LoadTestRunner(int clients, MeterRegistry meterRegistry, SqlStatementCounter statementCounter) {
+        this.clients = clients;
+        this.meterRegistry = meterRegistry;
+        this.statementCounter = statementCounter;
+    }
+
+    /**
+     * Runs the scenarios mixed by weight. With a single scenario its result carries the
+     * statement and pool-wait figures; with several they are reported on an extra
+     * {@code all} row.
+     */
+    List<Result> run(String phase, Duration duration, List<Scenario> scenarios) throws Exception {
+        int totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+        Map<Scenario, ConcurrentHistogram> latencies = new LinkedHashMap<>();
+        Map<Scenario, LongAdder> errors = new LinkedHashMap<>();
+        for (Scenario scenario : scenarios) {
+            latencies.put(scenario, new ConcurrentHistogram(3));
+            errors.put(scenario, new LongAdder());
+        }
+
+        long statementsBefore = statementCounter.getExecutedCount();
+        long poolWaitBefore = poolWaitNanos();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(clients);
+        long elapsed;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long deadline = System.nanoTime() + duration.toNanos();
+            for (int c = 0; c < clients; c++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Scenario scenario = pick(scenarios, random.nextInt(totalWeight));
+                        long begin = System.nanoTime();
+                        boolean ok;
+                        try {
+                            ok = scenario.request().execute(random);
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        latencies.get(scenario).recordValue(System.nanoTime() - begin);
+                        if (!ok) {
+                            errors.get(scenario).increment();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            elapsed = System.nanoTime() - begin;
+        }
+        long statements = statementCounter.getExecutedCount() - statementsBefore;
+        long poolWait = poolWaitNanos() - poolWaitBefore;
+
+        double seconds = elapsed / 1e9;
+        boolean alone = scenarios.size() == 1;
+        List<Result> results = new ArrayList<>();
+        Histogram all = new Histogram(3);
+        long allErrors = 0;
+        for (Scenario scenario : scenarios) {
+            Histogram histogram = latencies.get(scenario);
+            all.add(histogram);
+            allErrors += errors.get(scenario).sum();
+            results.add(new Result(phase, scenario.name(), histogram.getTotalCount(), errors.get(scenario).sum(),
+                    seconds, histogram, alone ? statements : -1, alone ? poolWait : -1));
+        }
+        if (!alone) {
+            results.add(new Result(phase, "all", all.getTotalCount(), allErrors, seconds, all, statements, poolWait));
+        }
+        return results;
+    }
+
+    private static Scenario pick(List<Scenario> scenarios, int ticket) {
+        for (Scenario scenario : scenarios) {
+            ticket -= scenario.weight();
+            if (ticket < 0) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException("Ticket beyond total weight");
+    }
+
+    private long poolWaitNanos() {
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        return acquire == null ? 0 : (long) acquire.totalTime(TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,78 @@
+package com.attendify.backend.benchmark;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.dto.ParticipantDTO;
+import com.attendify.backend.service.EventParticipantService;
+import com.attendify.backend.service.ParticipantCounterReconciler;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Registration latency against a growing event catalogue. With the incremental counter
+ * triggers the cost of a registration must not depend on the number of events.
+ */
+@Tag("benchmark")
+class ParticipantCounterBenchmark extends TestContainerConfig {
+
+    private static final int[] EVENT_COUNTS = {100, 10_000, 100_000, 1_000_000};
+    private static final int REGISTRATIONS = 200;
+    private static final long FIRST_PARTICIPANT_ID = 1_000_000L;
+    private static final long FIRST_EVENT_ID = 10_000_000L;
+
+    @Autowired
+    private EventParticipantService eventParticipantService;
+
+    @Autowired
+    private ParticipantCounterReconciler participantCounterReconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void registrationLatencyStaysFlatAsEventCountGrows() {
+        BenchmarkData.insertPersons(jdbcTemplate, FIRST_PARTICIPANT_ID, REGISTRATIONS);
+        Map<Integer, Long> medianNanos = new LinkedHashMap<>();
+
+        int existing = 0;
+        for (int eventCount : EVENT_COUNTS) {
+            BenchmarkData.insertEvents(jdbcTemplate, FIRST_EVENT_ID + existing, eventCount - existing);
+            existing = eventCount;
+
+            long eventId = FIRST_EVENT_ID;
+            long[] samples = new long[REGISTRATIONS];
+            for (int i = 0; i < REGISTRATIONS; i++) {
+                ParticipantDTO dto = new ParticipantDTO();
+                dto.setId(FIRST_PARTICIPANT_ID + i);
+                long start = System.nanoTime();
+                eventParticipantService.addParticipantToEvent(eventId, dto);
+                samples[i] = System.nanoTime() - start;
+            }
+
+            assertEquals(REGISTRATIONS, jdbcTemplate.queryForObject(
+                    "SELECT total_participants FROM events WHERE id = ?", Integer.class, eventId));
+            jdbcTemplate.update("DELETE FROM event_participant WHERE event_id = ?", eventId);
+            assertEquals(0, jdbcTemplate.queryForObject(
+                    "SELECT total_participants FROM events WHERE id = ?", Integer.class, eventId));
+
+            Arrays.sort(samples);
+            medianNanos.put(eventCount, samples[samples.length / 2]);
+            System.out.printf("events=%,d median=%.3f ms p99=%.3f ms%n", eventCount,
+                    samples[samples.length / 2] / 1e6, samples[samples.length * 99 / 100] / 1e6);
+        }
+
+        assertEquals(0, participantCounterReconciler.reconcile());
+        long smallest = medianNanos.get(EVENT_COUNTS[0]);
+        long largest = medianNanos.get(EVENT_COUNTS[EVENT_COUNTS.length - 1]);
+        assertTrue(largest < smallest * 3,
+                "Registration latency grew with event count: " + medianNanos);
+    }
+}
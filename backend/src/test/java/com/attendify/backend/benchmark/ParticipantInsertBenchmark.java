@@ -0,0 +1,63 @@
+package com.attendify.backend.benchmark;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.configuration.SqlStatementCounter;
+import com.attendify.backend.domain.Participant;
+import com.attendify.backend.domain.Person;
+import com.attendify.backend.repository.ParticipantRepository;
+import net.ttddyy.dsproxy.QueryType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 100k JPA inserts of persons in transactions of 1,000. With pooled sequence ids Hibernate
+ * batches the joined {@code participants}/{@code persons} inserts and fetches one id block per
+ * 50 rows, so round trips per insert should stay well below the two of an IDENTITY mapping.
+ */
+@Tag("benchmark")
+class ParticipantInsertBenchmark extends TestContainerConfig {
+
+    private static final int INSERTS = 100_000;
+    private static final int PER_TRANSACTION = 1_000;
+    private static final long FIRST_CODE_INDEX = 40_000_000L;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void hundredThousandInserts() {
+        SqlStatementCounter.Counts counts = SqlStatementCounter.start();
+        long begin = System.nanoTime();
+        for (int start = 0; start < INSERTS; start += PER_TRANSACTION) {
+            List<Participant> persons = new ArrayList<>(PER_TRANSACTION);
+            for (int i = start; i < start + PER_TRANSACTION; i++) {
+                Person person = new Person();
+                person.setFirstName("Bench");
+                person.setLastName("Insert");
+                person.setPersonalCode(LoadTestData.personalCode(FIRST_CODE_INDEX + i));
+                person.setPaymentMethod(Participant.PaymentMethod.CARD);
+                persons.add(person);
+            }
+            transactionTemplate.executeWithoutResult(status -> participantRepository.saveAll(persons));
+        }
+        long elapsed = System.nanoTime() - begin;
+        SqlStatementCounter.stop();
+
+        double roundTripsPerInsert = (double) counts.getTotal() / INSERTS;
+        System.out.printf("inserts=%,d elapsed=%.1f s throughput=%.0f inserts/s round-trips/insert=%.3f "
+                        + "(select=%,d insert=%,d)%n",
+                INSERTS, elapsed / 1e9, INSERTS / (elapsed / 1e9), roundTripsPerInsert,
+                counts.get(QueryType.SELECT), counts.get(QueryType.INSERT));
+        assertTrue(roundTripsPerInsert < 0.5, "Inserts are not batched: " + counts);
+    }
+}
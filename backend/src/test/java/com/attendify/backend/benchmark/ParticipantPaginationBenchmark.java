@@ -0,0 +1,64 @@
+package com.attendify.backend.benchmark;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.domain.Participant;
+import com.attendify.backend.dto.KeysetSlice;
+import com.attendify.backend.service.ParticipantService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Page 10,000 of {@code GET /api/participants} in offset mode against cursor mode.
+ */
+@Tag("benchmark")
+class ParticipantPaginationBenchmark extends TestContainerConfig {
+
+    private static final int PAGE = 10_000;
+    private static final int SIZE = 10;
+    private static final int PARTICIPANTS = (PAGE + 10) * SIZE;
+    private static final int ITERATIONS = 50;
+    private static final long FIRST_PARTICIPANT_ID = 20_000_000L;
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deepPageOffsetVersusCursor() {
+        BenchmarkData.insertPersons(jdbcTemplate, FIRST_PARTICIPANT_ID, PARTICIPANTS);
+
+        Page<Participant> offsetPage = participantService.searchParticipants(null, null, null, PageRequest.of(PAGE, SIZE));
+        long lastIdBeforePage = jdbcTemplate.queryForObject(
+                "SELECT id FROM participants ORDER BY id OFFSET ? LIMIT 1", Long.class, PAGE * SIZE - 1);
+        String cursor = KeysetSlice.encodeCursor(lastIdBeforePage);
+        KeysetSlice<Participant> cursorSlice = participantService.getParticipantsAfter(cursor, SIZE);
+        assertEquals(SIZE, offsetPage.getNumberOfElements());
+        assertEquals(SIZE, cursorSlice.getNumberOfElements());
+
+        report("offset", () -> participantService.searchParticipants(null, null, null, PageRequest.of(PAGE, SIZE)));
+        report("cursor", () -> participantService.getParticipantsAfter(cursor, SIZE));
+    }
+
+    private void report(String mode, Supplier<?> fetch) {
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            fetch.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        System.out.printf("page=%,d mode=%s median=%.3f ms p99=%.3f ms%n", PAGE, mode,
+                samples[ITERATIONS / 2] / 1e6, samples[ITERATIONS * 99 / 100] / 1e6);
+    }
+}
@@ -0,0 +1,76 @@
+package com.attendify.backend.benchmark;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.repository.search.ParticipantSearchQueryBuilder;
+import com.attendify.backend.service.ParticipantService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Search latency over a large participant table. Size it with
+ * {@code -Dbenchmark.participants=...} (default 5M).
+ */
+@Tag("benchmark")
+class ParticipantSearchBenchmark extends TestContainerConfig {
+
+    private static final int PARTICIPANTS = Integer.getInteger("benchmark.participants", 5_000_000);
+    private static final int SEARCHES = 500;
+    private static final long FIRST_PARTICIPANT_ID = 10_000_000L;
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void searchLatencyOverLargeParticipantTable() {
+        createParticipants();
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN "
+                        + new ParticipantSearchQueryBuilder("PERSON", "lastname").buildCount()
+                        .replace(":pattern", "'%" + "abcd" + "%'"), String.class));
+        assertTrue(plan.contains("idx_persons_last_name_trgm"), plan);
+
+        Random random = new Random(42);
+        for (String field : List.of("lastname", "email", "all")) {
+            long[] samples = new long[SEARCHES];
+            for (int i = 0; i < SEARCHES; i++) {
+                String query = Integer.toHexString(0x1000 + random.nextInt(0xefff));
+                long start = System.nanoTime();
+                participantService.searchParticipants(query, "", field, PageRequest.of(0, 10));
+                samples[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(samples);
+            System.out.printf("participants=%,d field=%s p50=%.3f ms p99=%.3f ms%n", PARTICIPANTS, field,
+                    samples[SEARCHES / 2] / 1e6, samples[SEARCHES * 99 / 100] / 1e6);
+        }
+    }
+
+    private void createParticipants() {
+        long last = FIRST_PARTICIPANT_ID + PARTICIPANTS - 1;
+        jdbcTemplate.update("INSERT INTO participants (id, participant_type) "
+                + "SELECT g, CASE WHEN g % 10 = 0 THEN 'COMPANY' ELSE 'PERSON' END "
+                + "FROM generate_series(?::bigint, ?::bigint) g", FIRST_PARTICIPANT_ID, last);
+        jdbcTemplate.update("INSERT INTO persons (id, first_name, last_name, personal_code, email) "
+                + "SELECT g, substr(md5(g::text), 1, 8), substr(md5(g::text), 9, 10), LPAD(g::text, 11, '0'), "
+                + "substr(md5(g::text), 19, 8) || '@example.ee' "
+                + "FROM generate_series(?::bigint, ?::bigint) g WHERE g % 10 <> 0", FIRST_PARTICIPANT_ID, last);
+        jdbcTemplate.update("INSERT INTO companies (id, company_name, registration_code, participant_count, email) "
+                + "SELECT g, 'Company ' || substr(md5(g::text), 1, 10), LPAD((g / 10)::text, 8, '0'), 1, "
+                + "substr(md5(g::text), 19, 8) || '@example.com' "
+                + "FROM generate_series(?::bigint, ?::bigint) g WHERE g % 10 = 0", FIRST_PARTICIPANT_ID, last);
+        jdbcTemplate.execute("ANALYZE participants");
+        jdbcTemplate.execute("ANALYZE persons");
+        jdbcTemplate.execute("ANALYZE companies");
+    }
+}
@@ -0,0 +1,18 @@
+package com.attendify.backend.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * {@link RequestThreadingBenchmark} on Tomcat's default platform-thread pool.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadRequestBenchmark extends RequestThreadingBenchmark {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,96 @@
+package com.attendify.backend.benchmark;
+
+import com.attendify.backend.TestContainerConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 1,000 concurrent clients paging {@code GET /api/events/{id}/attendees}, which goes to the
+ * database on every call. Subclasses pick the request threading mode; compare their output.
+ */
+abstract class RequestThreadingBenchmark extends TestContainerConfig {
+
+    private static final int CLIENTS = 1_000;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int ATTENDEES = 200;
+    private static final long EVENT_ID = 30_000_000L;
+    private static final long FIRST_PARTICIPANT_ID = 30_000_000L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    protected abstract String mode();
+
+    @Test
+    void thousandConcurrentClients() throws Exception {
+        BenchmarkData.insertPersons(jdbcTemplate, FIRST_PARTICIPANT_ID, ATTENDEES);
+        BenchmarkData.insertEvents(jdbcTemplate, EVENT_ID, 1);
+        BenchmarkData.registerAll(jdbcTemplate, EVENT_ID, FIRST_PARTICIPANT_ID, ATTENDEES);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        String baseUri = "http://localhost:" + port + "/api/events/" + EVENT_ID + "/attendees?size=20&page=";
+        long[] samples = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> clients = new ArrayList<>(CLIENTS);
+        long elapsed;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                clients.add(executor.submit(() -> {
+                    start.await();
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri + r % (ATTENDEES / 20)))
+                                .timeout(Duration.ofMinutes(2))
+                                .build();
+                        long begin = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        samples[next.getAndIncrement()] = System.nanoTime() - begin;
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : clients) {
+                future.get();
+            }
+            elapsed = System.nanoTime() - begin;
+        }
+
+        Arrays.sort(samples);
+        System.out.printf("threads=%s clients=%,d requests=%,d throughput=%.0f req/s p50=%.1f ms p99=%.1f ms max=%.1f ms errors=%d%n",
+                mode(), CLIENTS, samples.length, samples.length / (elapsed / 1e9),
+                samples[samples.length / 2] / 1e6, samples[samples.length * 99 / 100] / 1e6,
+                samples[samples.length - 1] / 1e6, failures.get());
+        assertEquals(0, failures.get());
+    }
+}
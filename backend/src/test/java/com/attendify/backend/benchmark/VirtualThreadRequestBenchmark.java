@@ -0,0 +1,20 @@
+package com.attendify.backend.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * {@link RequestThreadingBenchmark} with the {@code virtual-threads} profile, i.e. virtual
+ * request threads behind the database concurrency limiter.
+ */
+@Tag("benchmark")
+@ActiveProfiles("virtual-threads")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class VirtualThreadRequestBenchmark extends RequestThreadingBenchmark {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,83 @@
+package com.attendify.backend.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    void getConnection_ShouldHoldThePermitUntilTheConnectionIsClosed() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofSeconds(1));
+
+        Connection limited = dataSource.getConnection();
+        assertEquals(1, dataSource.getAvailablePermits());
+
+        limited.close();
+        limited.close();
+
+        verify(connection, times(2)).close();
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_WhenThePoolFails_ShouldReleaseThePermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("Pool exhausted"));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofSeconds(1));
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_WhenNoPermitFreesUp_ShouldTimeOut() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+        Connection held = dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(target, times(1)).getConnection();
+
+        held.close();
+        assertNotNull(dataSource.getConnection());
+    }
+
+    @Test
+    void getConnection_ShouldUnwrapToThePooledConnection() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        Connection limited = new ConcurrencyLimitedDataSource(target, 1, Duration.ofSeconds(1)).getConnection();
+
+        assertSame(connection, limited.unwrap(Connection.class));
+        assertTrue(limited.isWrapperFor(Connection.class));
+    }
+
+    @Test
+    void databaseConcurrencyLimiter_ShouldOnlyWrapConnectionPools() {
+        VirtualThreadConfig.PoolLimiter limiter = VirtualThreadConfig.databaseConcurrencyLimiter(10, Duration.ofMinutes(2));
+        HikariDataSource pool = mock(HikariDataSource.class);
+        ReplicaRoutingDataSource routing = mock(ReplicaRoutingDataSource.class);
+
+        assertInstanceOf(ConcurrencyLimitedDataSource.class, limiter.postProcessAfterInitialization(pool, "dataSource"));
+        assertSame(routing, limiter.postProcessAfterInitialization(routing, "dataSource"));
+        assertSame(target, limiter.postProcessAfterInitialization(target, "otherDataSource"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.attendify.backend.configuration;
+
+import com.attendify.backend.controller.CheckInController;
+import com.attendify.backend.controller.EventCountsController;
+import com.attendify.backend.dto.CheckInRequestDTO;
+import com.attendify.backend.dto.CheckInResultDTO;
+import com.attendify.backend.exception.ResourceNotFoundException;
+import com.attendify.backend.service.CheckInService;
+import com.attendify.backend.service.EventCountsBroadcaster;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MethodTimingAspectTest {
+    @Mock
+    private CheckInService checkInService;
+
+    @Mock
+    private EventCountsBroadcaster eventCountsBroadcaster;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void time_ShouldRecordTheCallTaggedByLayerClassAndMethod() {
+        CheckInResultDTO result = new CheckInResultDTO();
+        when(checkInService.checkIn(1L, "12345678")).thenReturn(result);
+
+        assertSame(result, proxy(new CheckInController(checkInService)).checkIn(1L, new CheckInRequestDTO("12345678")));
+
+        Timer timer = meterRegistry.find(MethodTimingAspect.METRIC)
+                .tags("layer", "controller", "class", "CheckInController", "method", "checkIn", "exception", "none")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void time_WhenTheMethodThrows_ShouldRecordTheExceptionAndRethrowIt() {
+        when(checkInService.checkIn(1L, "00000000")).thenThrow(new ResourceNotFoundException("No registration"));
+        CheckInController controller = proxy(new CheckInController(checkInService));
+
+        assertThrows(ResourceNotFoundException.class, () -> controller.checkIn(1L, new CheckInRequestDTO("00000000")));
+
+        Timer timer = meterRegistry.find(MethodTimingAspect.METRIC)
+                .tags("method", "checkIn", "exception", "ResourceNotFoundException")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void time_OfAMethodReturningAStream_ShouldNotRecordIt() {
+        SseEmitter emitter = new SseEmitter();
+        when(eventCountsBroadcaster.subscribe(Set.of(1L))).thenReturn(emitter);
+
+        assertSame(emitter, proxy(new EventCountsController(eventCountsBroadcaster)).streamEventCounts(1L));
+
+        assertNull(meterRegistry.find(MethodTimingAspect.METRIC).timer());
+    }
+
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MethodTimingAspect(meterRegistry));
+        return factory.getProxy();
+    }
+}
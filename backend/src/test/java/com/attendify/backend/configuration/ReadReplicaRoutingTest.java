@@ -0,0 +1,130 @@
+package com.attendify.backend.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+
+/**
+ * Runs against a primary and a replica streaming from it, asking each connection whether it
+ * is in recovery to see where it was routed.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+class ReadReplicaRoutingTest {
+    private static final Network network = Network.newNetwork();
+
+    @Container
+    private static final PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:15")
+            .withDatabaseName("attendify_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withNetwork(network)
+            .withNetworkAliases("primary")
+            .withCommand("postgres", "-c", "fsync=off", "-c", "wal_level=replica", "-c", "max_wal_senders=4");
+
+    private static final GenericContainer<?> replica = new GenericContainer<>("postgres:15")
+            .withNetwork(network)
+            .withExposedPorts(PostgreSQLContainer.POSTGRESQL_PORT)
+            .withEnv("PGPASSWORD", "test")
+            .withCreateContainerCmdModifier(cmd -> cmd
+                    .withUser("postgres")
+                    .withEntrypoint("sh", "-c",
+                            "pg_basebackup -h primary -U test -D /tmp/replica -R -X stream"
+                                    + " && chmod 0700 /tmp/replica"
+                                    + " && exec postgres -D /tmp/replica -c hot_standby=on"))
+            .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) throws Exception {
+        primary.execInContainer("sh", "-c",
+                "echo 'host replication all all scram-sha-256' >> /var/lib/postgresql/data/pg_hba.conf");
+        primary.execInContainer("psql", "-U", "test", "-d", "attendify_test", "-c", "SELECT pg_reload_conf()");
+        replica.start();
+
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("attendify.datasource.replicas.urls", () -> "jdbc:postgresql://" + replica.getHost() + ":"
+                + replica.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/attendify_test");
+    }
+
+    @AfterAll
+    static void stopReplica() {
+        replica.stop();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldRunOnReplica() {
+        assertEquals(Boolean.TRUE, inRecovery(true));
+    }
+
+    @Test
+    void readWriteTransaction_ShouldRunOnPrimary() {
+        assertEquals(Boolean.FALSE, inRecovery(false));
+    }
+
+    @Test
+    void readOnlyTransaction_WhenPinned_ShouldRunOnPrimary() {
+        ReadYourWritesFilter.pinToPrimary();
+        try {
+            assertEquals(Boolean.FALSE, inRecovery(true));
+        } finally {
+            ReadYourWritesFilter.unpin();
+        }
+    }
+
+    @Test
+    void write_ShouldPinClientToPrimary() throws Exception {
+        mockMvc.perform(post("/api/events").contentType("application/json").content("{}"))
+                .andExpect(header().string(HttpHeaders.SET_COOKIE, containsString(ReadYourWritesFilter.COOKIE + "=")));
+    }
+
+    @Test
+    void pools_ShouldReportMetricsByName() {
+        inRecovery(true); // Replica pools start on their first connection
+        assertNotNull(meterRegistry.find("hikaricp.connections").tag("pool", "primary").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections").tag("pool", "replica-1").gauge());
+    }
+
+    private Boolean inRecovery(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class));
+    }
+}
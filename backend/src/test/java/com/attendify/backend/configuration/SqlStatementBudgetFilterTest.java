@@ -0,0 +1,106 @@
+package com.attendify.backend.configuration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static com.attendify.backend.configuration.SqlStatementBudgetFilter.EXCEEDED_METRIC;
+import static com.attendify.backend.configuration.SqlStatementBudgetFilter.STATEMENTS_METRIC;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementBudgetFilterTest {
+    private static final String URI_PATTERN = "/api/events/{id}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementCounter listener = new SqlStatementCounter();
+    private final SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(meterRegistry, 5, 2);
+
+    @Test
+    void requestWithinBudget_ShouldRecordStatementsWithoutFlaggingIt() throws Exception {
+        filter.doFilter(request(), new MockHttpServletResponse(), executing(
+                "select * from events where id = ?",
+                "select * from participants where id = ?",
+                "update events set total_participants = ? where id = ?"));
+
+        DistributionSummary statements = meterRegistry.get(STATEMENTS_METRIC)
+                .tag("method", "GET").tag("uri", URI_PATTERN).summary();
+        assertEquals(1, statements.count());
+        assertEquals(3, statements.totalAmount());
+        assertTrue(meterRegistry.find(EXCEEDED_METRIC).counters().isEmpty());
+    }
+
+    @Test
+    void requestOverBudget_ShouldCountExceededBudget() throws Exception {
+        filter.doFilter(request(), new MockHttpServletResponse(), executing(
+                "select * from events where id = ?",
+                "select * from participants where id = ?",
+                "select * from persons where id = ?",
+                "select * from companies where id = ?",
+                "insert into event_participant values (?, ?)",
+                "update events set total_participants = ? where id = ?"));
+
+        assertEquals(1, exceeded("budget"));
+        assertNull(meterRegistry.find(EXCEEDED_METRIC).tag("reason", "repeated-select").counter());
+    }
+
+    @Test
+    void repeatedSelect_ShouldBeCountedAsPossibleNPlusOne() throws Exception {
+        filter.doFilter(request(), new MockHttpServletResponse(), executing(
+                "select * from events",
+                "select * from persons where id = ?",
+                "select * from persons where id = ?",
+                "select * from persons where id = ?"));
+
+        assertEquals(1, exceeded("repeated-select"));
+        assertNull(meterRegistry.find(EXCEEDED_METRIC).tag("reason", "budget").counter());
+    }
+
+    @Test
+    void requestWithoutMatchedHandler_ShouldBeTaggedUnknown() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/missing"), new MockHttpServletResponse(),
+                executing("select 1"));
+
+        assertEquals(1, meterRegistry.get(STATEMENTS_METRIC).tag("uri", "UNKNOWN").summary().count());
+    }
+
+    @Test
+    void statementsAfterTheRequest_ShouldNotBeCountedOnTheThread() throws Exception {
+        filter.doFilter(request(), new MockHttpServletResponse(), executing("select 1"));
+
+        execute("select 2");
+
+        assertEquals(0, SqlStatementCounter.current().getTotal());
+        assertEquals(2, listener.getExecutedCount());
+    }
+
+    private double exceeded(String reason) {
+        return meterRegistry.get(EXCEEDED_METRIC)
+                .tag("method", "GET").tag("uri", URI_PATTERN).tag("reason", reason)
+                .counter().count();
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI_PATTERN);
+        return request;
+    }
+
+    private FilterChain executing(String... queries) {
+        return (request, response) -> {
+            for (String query : queries) {
+                execute(query);
+            }
+        };
+    }
+
+    private void execute(String query) {
+        listener.afterQuery(null, List.of(new QueryInfo(query)));
+    }
+}
@@ -0,0 +1,63 @@
+package com.attendify.backend.configuration;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.repository.EventRepository;
+import com.attendify.backend.service.EventService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+
+import java.util.Map;
+
+import static com.attendify.backend.SqlStatementAssertions.assertSelectCount;
+import static com.attendify.backend.SqlStatementAssertions.assertStatementCount;
+import static com.attendify.backend.SqlStatementAssertions.clear;
+import static com.attendify.backend.SqlStatementAssertions.reset;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlStatementCounterTest extends TestContainerConfig {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.EVENTS).clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    @Test
+    void getEventById_ShouldSelectOnceThenServeFromCache() {
+        reset();
+        eventService.getEventById(1L);
+        assertSelectCount(1);
+
+        reset();
+        eventService.getEventById(1L);
+        assertStatementCount(0);
+    }
+
+    @Test
+    void repeatedSelects_ShouldBeReportedAsMostRepeated() {
+        reset();
+        for (long id = 1; id <= 3; id++) {
+            eventRepository.findById(id);
+        }
+
+        assertSelectCount(3);
+        Map.Entry<String, Integer> repeated = SqlStatementCounter.current().getMostRepeatedSelect();
+        assertEquals(3, repeated.getValue(), repeated.getKey());
+    }
+}
@@ -0,0 +1,130 @@
+package com.attendify.backend.controller;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.TestFixtures.IdBlock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class CheckInTest extends TestContainerConfig {
+    private static final long PERSON_ID = IdBlock.CHECK_IN.firstId();
+    private static final long COMPANY_ID = PERSON_ID + 1;
+    private static final String PERSON_CODE = "49201010007";
+    private static final String COMPANY_CODE = "92000001";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int eventId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM participants WHERE id IN (?, ?)", PERSON_ID, COMPANY_ID);
+        jdbcTemplate.update("INSERT INTO participants (id, participant_type, payment_method) VALUES (?, 'PERSON', 'CARD')",
+                PERSON_ID);
+        jdbcTemplate.update("INSERT INTO persons (id, first_name, last_name, personal_code) "
+                + "VALUES (?, 'Kati', 'Karu', ?)", PERSON_ID, PERSON_CODE);
+        jdbcTemplate.update("INSERT INTO participants (id, participant_type, payment_method) VALUES (?, 'COMPANY', 'BANK_TRANSFER')",
+                COMPANY_ID);
+        jdbcTemplate.update("INSERT INTO companies (id, company_name, registration_code, participant_count) "
+                + "VALUES (?, 'Karu OÜ', ?, 3)", COMPANY_ID, COMPANY_CODE);
+        eventId = jdbcTemplate.queryForObject("INSERT INTO events (id, name, date_time) "
+                + "VALUES (nextval('events_id_seq'), 'Check-in test', now() + interval '1 hour') RETURNING id", Integer.class);
+        jdbcTemplate.update("INSERT INTO event_participant (event_id, participant_id, event_date_time) "
+                + "SELECT id, p.id, date_time FROM events, (VALUES (?::bigint), (?::bigint)) p(id) WHERE events.id = ?",
+                PERSON_ID, COMPANY_ID, eventId);
+    }
+
+    @Test
+    void checkIn_ShouldMarkAttendanceOnceAndCount() throws Exception {
+        scan(PERSON_CODE)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participantId").value(PERSON_ID))
+                .andExpect(jsonPath("$.name").value("Kati Karu"))
+                .andExpect(jsonPath("$.status").value("CHECKED_IN"))
+                .andExpect(jsonPath("$.attended").value(1))
+                .andExpect(jsonPath("$.registered").value(2));
+        scan(PERSON_CODE)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ALREADY_CHECKED_IN"))
+                .andExpect(jsonPath("$.attended").value(1));
+        scan(COMPANY_CODE)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Karu OÜ"))
+                .andExpect(jsonPath("$.attended").value(2));
+
+        assertEquals("ATTENDED", attendanceStatus(PERSON_ID));
+        mockMvc.perform(get("/api/events/" + eventId + "/check-ins"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registered").value(2))
+                .andExpect(jsonPath("$.attended").value(2));
+    }
+
+    @Test
+    void checkIn_WithUnknownCodeOrCancelledRegistration_ShouldNotCheckIn() throws Exception {
+        scan("00000000000").andExpect(status().isNotFound());
+
+        mockMvc.perform(patch("/api/events/" + eventId + "/participants/" + COMPANY_ID + "/attendance")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"cancelled\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.previousStatus").value("REGISTERED"))
+                .andExpect(jsonPath("$.status").value("UPDATED"));
+        scan(COMPANY_CODE)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"))
+                .andExpect(jsonPath("$.registered").value(1));
+        assertEquals("CANCELLED", attendanceStatus(COMPANY_ID));
+    }
+
+    @Test
+    void batchAttendance_ShouldReportEachRow() throws Exception {
+        mockMvc.perform(patch("/api/events/" + eventId + "/attendance:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"participantId\":" + PERSON_ID + ",\"status\":\"ATTENDED\"},"
+                                + "{\"participantId\":" + COMPANY_ID + ",\"status\":\"REGISTERED\"},"
+                                + "{\"participantId\":1,\"status\":\"ATTENDED\"},"
+                                + "{\"participantId\":" + PERSON_ID + ",\"status\":\"CANCELLED\"},"
+                                + "{\"participantId\":" + COMPANY_ID + ",\"status\":\"LATE\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("UPDATED"))
+                .andExpect(jsonPath("$[1].status").value("UNCHANGED"))
+                .andExpect(jsonPath("$[2].status").value("NOT_REGISTERED"))
+                .andExpect(jsonPath("$[3].status").value("INVALID"))
+                .andExpect(jsonPath("$[4].status").value("INVALID"));
+
+        assertEquals("ATTENDED", attendanceStatus(PERSON_ID));
+        assertEquals("REGISTERED", attendanceStatus(COMPANY_ID));
+        mockMvc.perform(patch("/api/events/" + eventId + "/participants/1/attendance")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"ATTENDED\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    private ResultActions scan(String code) throws Exception {
+        return mockMvc.perform(post("/api/events/" + eventId + "/check-ins")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"code\":\"" + code + "\"}"));
+    }
+
+    private String attendanceStatus(long participantId) {
+        return jdbcTemplate.queryForObject("SELECT attendance_status FROM event_participant "
+                + "WHERE event_id = ? AND participant_id = ?", String.class, eventId, participantId);
+    }
+}
@@ -0,0 +1,117 @@
+package com.attendify.backend.controller;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.domain.Event;
+import com.attendify.backend.dto.ParticipantDTO;
+import com.attendify.backend.service.EventParticipantService;
+import com.attendify.backend.service.EventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class ConditionalRequestTest extends TestContainerConfig {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventParticipantService eventParticipantService;
+
+    @Test
+    void getEvent_WithCurrentEtag_ShouldReturnNotModifiedUntilRegistration() throws Exception {
+        Long eventId = createEvent();
+        String etag = etagOf("/api/events/" + eventId);
+
+        mockMvc.perform(get("/api/events/" + eventId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        ParticipantDTO participant = new ParticipantDTO();
+        participant.setId(1L);
+        eventParticipantService.addParticipantToEvent(eventId, participant);
+
+        mockMvc.perform(get("/api/events/" + eventId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        assertNotEquals(etag, etagOf("/api/events/" + eventId));
+    }
+
+    @Test
+    void getAllEvents_WithCurrentEtag_ShouldReturnNotModifiedUntilAnEventChanges() throws Exception {
+        String etag = etagOf("/api/events");
+
+        mockMvc.perform(get("/api/events").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        createEvent();
+
+        mockMvc.perform(get("/api/events").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllEvents_WithCurrentEtag_ShouldReturnOkAfterRegistration() throws Exception {
+        Long eventId = createEvent();
+        String etag = etagOf("/api/events");
+
+        ParticipantDTO participant = new ParticipantDTO();
+        participant.setId(1L);
+        eventParticipantService.addParticipantToEvent(eventId, participant);
+
+        mockMvc.perform(get("/api/events").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        assertNotEquals(etag, etagOf("/api/events"));
+    }
+
+    @Test
+    void getParticipant_WithCurrentEtag_ShouldReturnNotModifiedUntilUpdate() throws Exception {
+        String etag = etagOf("/api/participants/1");
+
+        mockMvc.perform(get("/api/participants/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        String body = mockMvc.perform(get("/api/participants/1"))
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(put("/api/participants/1")
+                        .contentType("application/json")
+                        .content(body.replaceFirst("\"additionalInfo\":(null|\"[^\"]*\")",
+                                "\"additionalInfo\":\"Changed " + System.nanoTime() + "\"")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/participants/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+    }
+
+    private String etagOf(String path) throws Exception {
+        String etag = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        return etag;
+    }
+
+    private Long createEvent() {
+        Event event = new Event();
+        event.setName("Conditional request test");
+        event.setDateTime(Instant.now().plus(7, ChronoUnit.DAYS));
+        event.setLocation("Pärnu");
+        return eventService.createEvent(event).getId();
+    }
+}
@@ -0,0 +1,92 @@
+package com.attendify.backend.controller;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.TestFixtures.IdBlock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.function.Predicate;
+
+import static com.attendify.backend.TestFixtures.insertPersons;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class EventCountsStreamTest extends TestContainerConfig {
+    private static final long FIRST_PARTICIPANT_ID = IdBlock.EVENT_COUNTS_STREAM.firstId();
+    private static final int PARTICIPANTS = 50;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int eventId;
+
+    @BeforeEach
+    void setUp() {
+        insertPersons(jdbcTemplate, FIRST_PARTICIPANT_ID, PARTICIPANTS, "Live", "Stream");
+        eventId = jdbcTemplate.queryForObject("INSERT INTO events (id, name, date_time) "
+                + "VALUES (nextval('events_id_seq'), 'Live counts test', now() + interval '1 day') RETURNING id", Integer.class);
+    }
+
+    @Test
+    void stream_ShouldStartWithCountsAndCoalesceABurstOfChanges() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/events/" + eventId + "/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockHttpServletResponse response = result.getResponse();
+        awaitContent(response, content -> content.contains("\"registered\":0"));
+
+        // One autocommitted statement per registration, as separate requests would commit them
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            jdbcTemplate.update("INSERT INTO event_participant (event_id, participant_id, event_date_time) "
+                    + "SELECT id, ?, date_time FROM events WHERE id = ?", FIRST_PARTICIPANT_ID + i, eventId);
+        }
+        jdbcTemplate.update("UPDATE event_participant SET attendance_status = 'ATTENDED' "
+                + "WHERE event_id = ? AND participant_id = ?", eventId, FIRST_PARTICIPANT_ID);
+
+        String content = awaitContent(response, c -> c.contains("\"registered\":" + PARTICIPANTS + ",\"attended\":1"));
+        assertTrue(content.contains("\"totalParticipants\":" + PARTICIPANTS), content);
+        int messages = content.split("event:counts", -1).length - 1;
+        assertTrue(messages < PARTICIPANTS, "expected coalesced updates, got " + messages + " messages");
+    }
+
+    @Test
+    void stream_OfAllEvents_ShouldReceiveChangesWithoutInitialCounts() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/events/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        jdbcTemplate.update("INSERT INTO event_participant (event_id, participant_id, event_date_time) "
+                + "SELECT id, ?, date_time FROM events WHERE id = ?", FIRST_PARTICIPANT_ID, eventId);
+
+        awaitContent(result.getResponse(), c -> c.contains("\"eventId\":" + eventId + ","));
+    }
+
+    @Test
+    void stream_OfUnknownEvent_ShouldBeNotFound() throws Exception {
+        mockMvc.perform(get("/api/events/99999999/stream"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, Predicate<String> condition) throws Exception {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        String content = response.getContentAsString();
+        while (!condition.test(content)) {
+            assertTrue(System.nanoTime() < deadline, "Stream did not deliver the expected counts: " + content);
+            Thread.sleep(50);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+}
@@ -0,0 +1,122 @@
+package com.attendify.backend.controller;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.TestFixtures.IdBlock;
+import com.attendify.backend.dto.ParticipantDTO;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class EventExportTest extends TestContainerConfig {
+    private static final long PERSON_ID = IdBlock.EVENT_EXPORT.firstId();
+    private static final long COMPANY_ID = PERSON_ID + 1;
+    private static final String PERSON_LAST_NAME = "Tamm, \"Junior\"";
+    private static final String COMPANY_NAME = "Kask, Kuusk & \"Partnerid\" OÜ";
+    private static final String ADDITIONAL_INFO = "Two lines:\nparking, lunch";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long eventId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO participants (id, participant_type, payment_method) "
+                + "VALUES (?, 'PERSON', 'CARD') ON CONFLICT DO NOTHING", PERSON_ID);
+        jdbcTemplate.update("INSERT INTO persons (id, first_name, last_name, personal_code) "
+                + "VALUES (?, 'Mari', ?, '09600000000') ON CONFLICT DO NOTHING", PERSON_ID, PERSON_LAST_NAME);
+        jdbcTemplate.update("INSERT INTO participants (id, participant_type, payment_method, additional_info) "
+                + "VALUES (?, 'COMPANY', 'BANK_TRANSFER', ?) ON CONFLICT DO NOTHING", COMPANY_ID, ADDITIONAL_INFO);
+        jdbcTemplate.update("INSERT INTO companies (id, company_name, registration_code, participant_count) "
+                + "VALUES (?, ?, '96000001', 4) ON CONFLICT DO NOTHING", COMPANY_ID, COMPANY_NAME);
+        eventId = jdbcTemplate.queryForObject("INSERT INTO events (id, name, date_time) "
+                + "VALUES (nextval('events_id_seq'), 'Export test', now() + interval '2 days') RETURNING id",
+                Long.class);
+        jdbcTemplate.update("INSERT INTO event_participant (event_id, participant_id, event_date_time) "
+                + "SELECT e.id, p.id, e.date_time FROM events e, participants p WHERE e.id = ? AND p.id IN (?, ?)",
+                eventId, PERSON_ID, COMPANY_ID);
+    }
+
+    @Test
+    void exportCsv_ShouldWriteHeaderAndOneEscapedRowPerParticipant() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/events/" + eventId + "/participants/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String csv = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"event-" + eventId + "-participants.csv\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertEquals("id,type,firstName,lastName,personalCode,companyName,registrationCode,participantCount,"
+                + "contactPerson,paymentMethod,additionalInfo,email,phone", csv.substring(0, csv.indexOf('\n')));
+        assertTrue(csv.contains("\"Tamm, \"\"Junior\"\"\""), csv);
+        assertTrue(csv.contains("\"Kask, Kuusk & \"\"Partnerid\"\" OÜ\""), csv);
+
+        List<ParticipantDTO> rows = read(csv);
+        assertEquals(2, rows.size());
+        ParticipantDTO person = rows.get(0);
+        assertEquals(PERSON_ID, person.getId());
+        assertEquals("PERSON", person.getType());
+        assertEquals("Mari", person.getFirstName());
+        assertEquals(PERSON_LAST_NAME, person.getLastName());
+        assertEquals("09600000000", person.getPersonalCode());
+        assertEquals("CARD", person.getPaymentMethod());
+        ParticipantDTO company = rows.get(1);
+        assertEquals(COMPANY_ID, company.getId());
+        assertEquals(COMPANY_NAME, company.getCompanyName());
+        assertEquals("96000001", company.getRegistrationCode());
+        assertEquals(4, company.getParticipantCount());
+        assertEquals(ADDITIONAL_INFO, company.getAdditionalInfo());
+    }
+
+    @Test
+    void exportJson_ShouldWriteAnArrayOfParticipants() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/events/" + eventId + "/participants/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(content().json("[{\"id\":" + PERSON_ID + ",\"lastName\":\"Tamm, \\\"Junior\\\"\"},"
+                        + "{\"id\":" + COMPANY_ID + ",\"companyName\":\"Kask, Kuusk & \\\"Partnerid\\\" OÜ\"}]"));
+    }
+
+    @Test
+    void export_OfUnknownEvent_ShouldBeNotFound() throws Exception {
+        mockMvc.perform(get("/api/events/99999999/participants/export"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static List<ParticipantDTO> read(String csv) throws Exception {
+        try (MappingIterator<ParticipantDTO> rows = new CsvMapper().readerFor(ParticipantDTO.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(csv)) {
+            return rows.readAll();
+        }
+    }
+}
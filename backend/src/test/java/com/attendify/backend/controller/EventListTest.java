@@ -0,0 +1,59 @@
+package com.attendify.backend.controller;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.domain.Event;
+import com.attendify.backend.service.EventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class EventListTest extends TestContainerConfig {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventService eventService;
+
+    @Test
+    void getAllEvents_AfterRegistration_ShouldShowTheNewTotal() throws Exception {
+        Long eventId = createEvent();
+        expectTotal(eventId, 0);
+
+        mockMvc.perform(post("/api/events/" + eventId + "/participants")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":1}"))
+                .andExpect(status().isCreated());
+        expectTotal(eventId, 1);
+
+        mockMvc.perform(delete("/api/events/" + eventId + "/participants/1"))
+                .andExpect(status().isNoContent());
+        expectTotal(eventId, 0);
+    }
+
+    private void expectTotal(Long eventId, int total) throws Exception {
+        mockMvc.perform(get("/api/events").param("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.futureEvents[?(@.id == " + eventId + ")].totalParticipants").value(total));
+    }
+
+    private Long createEvent() {
+        Event event = new Event();
+        event.setName("Event list test");
+        event.setDateTime(Instant.now().plus(1, ChronoUnit.DAYS));
+        event.setLocation("Tartu");
+        return eventService.createEvent(event).getId();
+    }
+}
@@ -0,0 +1,117 @@
+package com.attendify.backend.controller;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.TestFixtures.IdBlock;
+import com.attendify.backend.dto.KeysetSlice;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.attendify.backend.TestFixtures.insertPersons;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Walks {@code GET /api/participants?after=...} over participants in an id range above every
+ * other fixture, so the slices only hold the rows inserted here.
+ */
+@AutoConfigureMockMvc
+class ParticipantCursorPaginationTest extends TestContainerConfig {
+    private static final long FIRST_PARTICIPANT_ID = IdBlock.PARTICIPANT_CURSOR_PAGINATION.firstId();
+    private static final int PARTICIPANTS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        insertPersons(jdbcTemplate, FIRST_PARTICIPANT_ID, PARTICIPANTS, "Kursor", "Leht");
+    }
+
+    @Test
+    void getParticipants_FollowingNextCursor_ShouldVisitEveryParticipantOnceInIdOrder() throws Exception {
+        List<List<Long>> slices = new ArrayList<>();
+        String cursor = KeysetSlice.encodeCursor(FIRST_PARTICIPANT_ID - 1);
+        while (cursor != null) {
+            JsonNode slice = slice(cursor, 2);
+            List<Long> ids = new ArrayList<>();
+            slice.get("content").forEach(participant -> ids.add(participant.get("id").asLong()));
+            slices.add(ids);
+            cursor = slice.path("nextCursor").isTextual() ? slice.get("nextCursor").asText() : null;
+            assertEquals(cursor == null, slice.get("last").asBoolean());
+        }
+
+        long first = FIRST_PARTICIPANT_ID;
+        assertEquals(List.of(List.of(first, first + 1), List.of(first + 2, first + 3), List.of(first + 4)), slices);
+    }
+
+    @Test
+    void getParticipants_WithEmptyCursor_ShouldStartAtTheLowestId() throws Exception {
+        Long lowestId = jdbcTemplate.queryForObject("SELECT min(id) FROM participants", Long.class);
+
+        JsonNode slice = slice("", 3);
+
+        assertEquals(lowestId, slice.get("content").get(0).get("id").asLong());
+        assertEquals(3, slice.get("numberOfElements").asInt());
+        assertEquals(slice.get("content").get(2).get("id").asLong(),
+                KeysetSlice.decodeCursor(slice.get("nextCursor").asText()));
+        assertFalse(slice.has("totalElements"));
+    }
+
+    @Test
+    void getParticipants_AfterTheLastParticipant_ShouldReturnAnEmptyLastSlice() throws Exception {
+        Long highestId = jdbcTemplate.queryForObject("SELECT max(id) FROM participants", Long.class);
+
+        mockMvc.perform(get("/api/participants").param("after", KeysetSlice.encodeCursor(highestId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty())
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getParticipants_WithMalformedCursor_ShouldBeBadRequest() throws Exception {
+        mockMvc.perform(get("/api/participants").param("after", "not a cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getParticipants_WithCursorAndSearchQuery_ShouldBeBadRequest() throws Exception {
+        mockMvc.perform(get("/api/participants").param("after", "").param("query", "Kursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getParticipants_WithoutCursor_ShouldStillPageByOffset() throws Exception {
+        mockMvc.perform(get("/api/participants").param("query", "kursor").param("field", "firstname").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(PARTICIPANTS))
+                .andExpect(jsonPath("$.content[*].firstName").value(contains("Kursor", "Kursor")));
+    }
+
+    private JsonNode slice(String cursor, int size) throws Exception {
+        String body = mockMvc.perform(get("/api/participants")
+                        .param("after", cursor)
+                        .param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
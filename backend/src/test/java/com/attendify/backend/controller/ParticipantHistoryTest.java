@@ -0,0 +1,103 @@
+package com.attendify.backend.controller;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.TestFixtures.IdBlock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class ParticipantHistoryTest extends TestContainerConfig {
+    private static final long PARTICIPANT_ID = IdBlock.PARTICIPANT_HISTORY.firstId();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int pastEventId;
+    private int upcomingEventId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM participants WHERE id = ?", PARTICIPANT_ID);
+        jdbcTemplate.update("INSERT INTO participants (id, participant_type, payment_method) VALUES (?, 'PERSON', 'CARD')",
+                PARTICIPANT_ID);
+        jdbcTemplate.update("INSERT INTO persons (id, first_name, last_name, personal_code) "
+                + "VALUES (?, 'Jaan', 'Saar', '39001010008')", PARTICIPANT_ID);
+        pastEventId = insertEvent("History past", "now() - interval '400 days'");
+        upcomingEventId = insertEvent("History upcoming", "now() + interval '30 days'");
+        register(pastEventId, "ATTENDED");
+        register(upcomingEventId, "REGISTERED");
+    }
+
+    @Test
+    void getParticipantEvents_ShouldListNewestRegistrationFirst() throws Exception {
+        mockMvc.perform(get("/api/participants/" + PARTICIPANT_ID + "/events"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[*].eventId").value(contains(upcomingEventId, pastEventId)))
+                .andExpect(jsonPath("$.content[0].name").value("History upcoming"))
+                .andExpect(jsonPath("$.content[0].attendanceStatus").value("REGISTERED"));
+    }
+
+    @Test
+    void getParticipantEvents_ShouldFilterByWhenAndStatus() throws Exception {
+        mockMvc.perform(get("/api/participants/" + PARTICIPANT_ID + "/events").param("when", "past"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].eventId").value(contains(pastEventId)));
+        mockMvc.perform(get("/api/participants/" + PARTICIPANT_ID + "/events").param("when", "upcoming"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].eventId").value(contains(upcomingEventId)));
+        mockMvc.perform(get("/api/participants/" + PARTICIPANT_ID + "/events").param("status", "attended"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].eventId").value(not(hasItem(upcomingEventId))))
+                .andExpect(jsonPath("$.content[*].eventId").value(contains(pastEventId)));
+    }
+
+    @Test
+    void getParticipantEvents_WithoutStatusFilter_ShouldListRegistrationsWithoutStatus() throws Exception {
+        int eventId = insertEvent("History without status", "now() + interval '60 days'");
+        jdbcTemplate.update("INSERT INTO event_participant (event_id, participant_id, event_date_time, attendance_status) "
+                + "SELECT id, ?, date_time, NULL FROM events WHERE id = ?", PARTICIPANT_ID, eventId);
+
+        mockMvc.perform(get("/api/participants/" + PARTICIPANT_ID + "/events"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[*].eventId").value(hasItem(eventId)));
+        mockMvc.perform(get("/api/participants/" + PARTICIPANT_ID + "/events").param("status", "registered"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].eventId").value(contains(upcomingEventId)));
+    }
+
+    @Test
+    void getParticipantEvents_WithInvalidFilterOrParticipant_ShouldFail() throws Exception {
+        mockMvc.perform(get("/api/participants/" + PARTICIPANT_ID + "/events").param("when", "tomorrow"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/participants/" + PARTICIPANT_ID + "/events").param("status", "LATE"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/participants/99999999/events"))
+                .andExpect(status().isNotFound());
+    }
+
+    private int insertEvent(String name, String dateTime) {
+        return jdbcTemplate.queryForObject("INSERT INTO events (id, name, date_time) "
+                + "VALUES (nextval('events_id_seq'), ?, " + dateTime + ") RETURNING id", Integer.class, name);
+    }
+
+    private void register(int eventId, String attendanceStatus) {
+        jdbcTemplate.update("INSERT INTO event_participant (event_id, participant_id, event_date_time, attendance_status) "
+                + "SELECT id, ?, date_time, ? FROM events WHERE id = ?", PARTICIPANT_ID, attendanceStatus, eventId);
+    }
+}
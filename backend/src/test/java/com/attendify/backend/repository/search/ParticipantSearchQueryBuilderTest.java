@@ -0,0 +1,106 @@
+package com.attendify.backend.repository.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticipantSearchQueryBuilderTest {
+    private static final Pattern BRANCH = Pattern.compile("FROM (\\w+) t WHERE LOWER\\(t\\.(\\w+)\\) LIKE :pattern");
+
+    @Test
+    void allFields_WithoutType_ShouldSearchEveryColumnOfBothTypes() {
+        ParticipantSearchQueryBuilder builder = new ParticipantSearchQueryBuilder(null, "all");
+
+        assertFalse(builder.isEmpty());
+        assertEquals("persons.first_name, persons.last_name, persons.personal_code, companies.company_name, "
+                        + "companies.registration_code, companies.contact_person, persons.email, companies.email, "
+                        + "persons.phone, companies.phone, participants.additional_info",
+                branches(builder.buildCount()));
+        assertFalse(builder.buildCount().contains("participant_type"));
+    }
+
+    @Test
+    void nullOrEmptyField_ShouldMeanAllFields() {
+        String all = new ParticipantSearchQueryBuilder(null, "all").buildSelectIds();
+
+        assertEquals(all, new ParticipantSearchQueryBuilder(null, null).buildSelectIds());
+        assertEquals(all, new ParticipantSearchQueryBuilder(null, "").buildSelectIds());
+    }
+
+    @Test
+    void allFields_ForPersons_ShouldSkipCompanyColumnsAndFilterTheSharedTable() {
+        String sql = new ParticipantSearchQueryBuilder("PERSON", null).buildCount();
+
+        assertEquals("persons.first_name, persons.last_name, persons.personal_code, persons.email, "
+                + "persons.phone, participants.additional_info", branches(sql));
+        assertTrue(sql.endsWith("WHERE LOWER(t.additional_info) LIKE :pattern AND t.participant_type = 'PERSON') m"), sql);
+    }
+
+    @Test
+    void sharedField_ForCompanies_ShouldSearchOnlyTheCompanyColumn() {
+        ParticipantSearchQueryBuilder builder = new ParticipantSearchQueryBuilder("COMPANY", "email");
+
+        assertEquals("companies.email", branches(builder.buildCount()));
+    }
+
+    @Test
+    void singleField_ShouldBuildOneRankedBranch() {
+        String sql = new ParticipantSearchQueryBuilder(null, "lastname").buildSelectIds();
+
+        assertEquals("SELECT m.id FROM (SELECT t.id, similarity(LOWER(t.last_name), :query) AS rank "
+                + "FROM persons t WHERE LOWER(t.last_name) LIKE :pattern) m "
+                + "GROUP BY m.id ORDER BY MAX(m.rank) DESC, m.id LIMIT :limit OFFSET :offset", sql);
+    }
+
+    @Test
+    void count_ShouldNotRank() {
+        String sql = new ParticipantSearchQueryBuilder(null, "email").buildCount();
+
+        assertEquals("SELECT COUNT(DISTINCT m.id) FROM (SELECT t.id FROM persons t WHERE LOWER(t.email) LIKE :pattern "
+                + "UNION ALL SELECT t.id FROM companies t WHERE LOWER(t.email) LIKE :pattern) m", sql);
+    }
+
+    @Test
+    void fieldOfTheOtherType_ShouldBeEmpty() {
+        assertTrue(new ParticipantSearchQueryBuilder("COMPANY", "personalcode").isEmpty());
+        assertTrue(new ParticipantSearchQueryBuilder("PERSON", "companyname").isEmpty());
+    }
+
+    @Test
+    void unknownField_ShouldBeEmpty() {
+        assertTrue(new ParticipantSearchQueryBuilder(null, "shoesize").isEmpty());
+        assertTrue(new ParticipantSearchQueryBuilder(null, "firstName").isEmpty());
+    }
+
+    @Test
+    void toPattern_ShouldLowerCaseAndWrapForASubstringMatch() {
+        assertEquals("%mari%", ParticipantSearchQueryBuilder.toPattern("MaRi"));
+    }
+
+    @Test
+    void toPattern_ShouldEscapeLikeWildcards() {
+        assertEquals("%100\\%%", ParticipantSearchQueryBuilder.toPattern("100%"));
+        assertEquals("%first\\_name%", ParticipantSearchQueryBuilder.toPattern("first_name"));
+        assertEquals("%a\\\\\\%b%", ParticipantSearchQueryBuilder.toPattern("a\\%b"));
+    }
+
+    @Test
+    void toPattern_OfEmptyQuery_ShouldMatchEverything() {
+        assertEquals("%%", ParticipantSearchQueryBuilder.toPattern(""));
+    }
+
+    private static String branches(String sql) {
+        Matcher matcher = BRANCH.matcher(sql);
+        StringBuilder branches = new StringBuilder();
+        while (matcher.find()) {
+            if (!branches.isEmpty()) {
+                branches.append(", ");
+            }
+            branches.append(matcher.group(1)).append('.').append(matcher.group(2));
+        }
+        return branches.toString();
+    }
+}
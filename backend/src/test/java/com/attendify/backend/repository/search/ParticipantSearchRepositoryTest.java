@@ -0,0 +1,86 @@
+package com.attendify.backend.repository.search;
+
+import com.attendify.backend.domain.Participant;
+import com.attendify.backend.domain.Person;
+import com.attendify.backend.repository.ParticipantRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipantSearchRepositoryTest {
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private Query idsQuery;
+
+    @Mock
+    private Query countQuery;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ParticipantSearchRepository searchRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchRepository = new ParticipantSearchRepository(participantRepository, meterRegistry);
+        ReflectionTestUtils.setField(searchRepository, "entityManager", entityManager);
+    }
+
+    @Test
+    void search_ShouldTimeEachPhaseAndKeepTheRankOrder() {
+        when(entityManager.createNativeQuery(startsWith("SELECT m.id"))).thenReturn(idsQuery);
+        when(entityManager.createNativeQuery(startsWith("SELECT COUNT"))).thenReturn(countQuery);
+        when(idsQuery.setParameter(anyString(), any())).thenReturn(idsQuery);
+        when(countQuery.setParameter(anyString(), any())).thenReturn(countQuery);
+        when(idsQuery.getResultList()).thenReturn(List.of(3L, 1L));
+        when(countQuery.getSingleResult()).thenReturn(12L);
+        when(participantRepository.findAllById(any())).thenReturn(List.of(person(1L), person(3L)));
+
+        Page<Participant> page = searchRepository.search("Mari", null, "all", PageRequest.of(0, 2));
+
+        assertEquals(List.of(3L, 1L), page.getContent().stream().map(Participant::getId).toList());
+        assertEquals(12, page.getTotalElements());
+        for (String phase : List.of("ids", "count", "load")) {
+            Timer timer = meterRegistry.find(ParticipantSearchRepository.PHASE_METRIC).tag("phase", phase).timer();
+            assertNotNull(timer, phase);
+            assertEquals(1, timer.count(), phase);
+        }
+    }
+
+    @Test
+    void search_WithFieldOfTheOtherType_ShouldReturnAnEmptyPageWithoutQuerying() {
+        Page<Participant> page = searchRepository.search("Mari", "COMPANY", "firstname", PageRequest.of(0, 10));
+
+        assertTrue(page.isEmpty());
+        verifyNoInteractions(entityManager, participantRepository);
+        assertNull(meterRegistry.find(ParticipantSearchRepository.PHASE_METRIC).timer());
+    }
+
+    private static Person person(long id) {
+        Person person = new Person();
+        person.setId(id);
+        return person;
+    }
+}
@@ -0,0 +1,142 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.exception.ResourceNotFoundException;
+import com.attendify.backend.repository.AttendanceRepository;
+import com.attendify.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendeeRostersTest {
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+    private static final Duration WARM_AHEAD = Duration.ofHours(3);
+    private static final Duration KEEP_AFTER = Duration.ofHours(12);
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private final Map<Long, List<Object[]>> entriesByEvent = new HashMap<>();
+
+    private AttendeeRosters attendeeRosters;
+
+    @BeforeEach
+    void setUp() {
+        attendeeRosters = new AttendeeRosters(attendanceRepository, eventRepository,
+                Clock.fixed(NOW, ZoneOffset.UTC), WARM_AHEAD, KEEP_AFTER);
+        lenient().when(eventRepository.existsById(anyLong()))
+                .thenAnswer(invocation -> entriesByEvent.containsKey(invocation.<Long>getArgument(0)));
+        lenient().doAnswer(invocation -> {
+            AttendanceRepository.RosterEntryHandler handler = invocation.getArgument(1);
+            for (Object[] entry : entriesByEvent.get(invocation.<Long>getArgument(0))) {
+                handler.accept((Long) entry[0], (String) entry[1], (String) entry[2], (String) entry[3]);
+            }
+            return null;
+        }).when(attendanceRepository).forEachRosterEntry(anyLong(), any());
+    }
+
+    @Test
+    void refresh_ShouldLoadEventsInTheWindowAndDropTheOthers() {
+        register(1L, 10L, "39005270891", "REGISTERED");
+        register(2L, 20L, "12345678", "ATTENDED");
+        when(eventRepository.findIdsByDateTimeBetween(NOW.minus(KEEP_AFTER), NOW.plus(WARM_AHEAD)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(2L));
+
+        attendeeRosters.refresh();
+
+        assertNotNull(attendeeRosters.getIfLoaded(1L));
+        AttendeeRosters.Roster roster = attendeeRosters.getIfLoaded(2L);
+        assertEquals(20L, roster.find("12345678").participantId());
+        assertEquals(1, roster.getRegistered());
+        assertEquals(1, roster.getAttended());
+
+        // Event 1 started more than keep-after ago
+        attendeeRosters.refresh();
+
+        assertNull(attendeeRosters.getIfLoaded(1L));
+        assertNotNull(attendeeRosters.getIfLoaded(2L));
+    }
+
+    @Test
+    void onEventsChanged_ShouldReloadLoadedRosterWithTheNewRegistration() {
+        register(1L, 10L, "39005270891", "REGISTERED");
+        AttendeeRosters.Roster before = attendeeRosters.warm(1L);
+        assertNull(before.find("12345678"));
+
+        register(1L, 20L, "12345678", "REGISTERED");
+        attendeeRosters.onEventsChanged(EventsChangedEvent.of(1L));
+
+        AttendeeRosters.Roster after = attendeeRosters.getIfLoaded(1L);
+        assertEquals(20L, after.find(" 12345678 ").participantId());
+        assertEquals(2, after.getRegistered());
+    }
+
+    @Test
+    void onEventsChanged_ShouldNotLoadRostersNobodyUses() {
+        register(1L, 10L, "39005270891", "REGISTERED");
+
+        attendeeRosters.onEventsChanged(EventsChangedEvent.of(1L));
+
+        assertNull(attendeeRosters.getIfLoaded(1L));
+        verify(attendanceRepository, never()).forEachRosterEntry(eq(1L), any());
+    }
+
+    @Test
+    void onEventsChanged_OfDeletedEvent_ShouldDropItsRoster() {
+        register(1L, 10L, "39005270891", "REGISTERED");
+        attendeeRosters.warm(1L);
+
+        entriesByEvent.remove(1L);
+        attendeeRosters.onEventsChanged(EventsChangedEvent.all());
+
+        assertNull(attendeeRosters.getIfLoaded(1L));
+    }
+
+    @Test
+    void get_OfUnknownEvent_ShouldThrowResourceNotFoundException() {
+        assertThrows(ResourceNotFoundException.class, () -> attendeeRosters.get(99L));
+    }
+
+    @Test
+    void statusChanged_ShouldKeepCountsInStep() {
+        register(1L, 10L, "39005270891", "REGISTERED");
+        register(1L, 20L, "12345678", "REGISTERED");
+        AttendeeRosters.Roster roster = attendeeRosters.get(1L);
+
+        roster.statusChanged("REGISTERED", "ATTENDED");
+        roster.statusChanged("REGISTERED", "CANCELLED");
+        assertEquals(1, roster.getRegistered());
+        assertEquals(1, roster.getAttended());
+
+        roster.statusChanged("ATTENDED", "CANCELLED");
+        roster.statusChanged("CANCELLED", "REGISTERED");
+        assertEquals(1, roster.getRegistered());
+        assertEquals(0, roster.getAttended());
+    }
+
+    private void register(long eventId, long participantId, String code, String attendanceStatus) {
+        entriesByEvent.computeIfAbsent(eventId, id -> new ArrayList<>())
+                .add(new Object[]{participantId, code, "Participant " + participantId, attendanceStatus});
+    }
+}
@@ -0,0 +1,125 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.TestFixtures.IdBlock;
+import com.attendify.backend.domain.Event;
+import com.attendify.backend.dto.ParticipantDTO;
+import com.attendify.backend.dto.RegistrationResultDTO;
+import com.attendify.backend.dto.RegistrationResultDTO.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static com.attendify.backend.TestFixtures.insertPersons;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchRegistrationTest extends TestContainerConfig {
+    private static final long FIRST_PARTICIPANT_ID = IdBlock.BATCH_REGISTRATION.firstId();
+    private static final int PARTICIPANTS = 3;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventParticipantService eventParticipantService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        insertPersons(jdbcTemplate, FIRST_PARTICIPANT_ID, PARTICIPANTS, "Jaan", "Kask");
+    }
+
+    @Test
+    void addParticipantsToEvent_WithOneAlreadyRegistered_ShouldReportItAndRegisterTheRest() {
+        Long eventId = createEvent();
+        eventParticipantService.addParticipantsToEvent(eventId, participants(FIRST_PARTICIPANT_ID + 1));
+
+        List<RegistrationResultDTO> results = eventParticipantService.addParticipantsToEvent(eventId, participants(
+                FIRST_PARTICIPANT_ID, FIRST_PARTICIPANT_ID + 1, FIRST_PARTICIPANT_ID + 2));
+
+        assertEquals(List.of(Status.REGISTERED, Status.ALREADY_REGISTERED, Status.REGISTERED),
+                results.stream().map(RegistrationResultDTO::getStatus).toList());
+        assertEquals(PARTICIPANTS, registrations(eventId));
+        assertEquals(PARTICIPANTS, totalParticipants(eventId));
+    }
+
+    @Test
+    void addParticipantsToEvent_LosingARaceForOneParticipant_ShouldReportItAsAlreadyRegistered() throws Exception {
+        Long eventId = createEvent();
+        long contested = FIRST_PARTICIPANT_ID + 1;
+
+        CompletableFuture<List<RegistrationResultDTO>> batch;
+        try (Connection competitor = dataSource.getConnection()) {
+            competitor.setAutoCommit(false);
+            try (PreparedStatement insert = competitor.prepareStatement(
+                    "INSERT INTO event_participant (event_id, participant_id, event_date_time) "
+                            + "SELECT id, ?, date_time FROM events WHERE id = ?")) {
+                insert.setLong(1, contested);
+                insert.setLong(2, eventId);
+                insert.executeUpdate();
+            }
+            // The batch does not see the uncommitted row, so its insert waits on the conflict
+            batch = CompletableFuture.supplyAsync(() -> eventParticipantService.addParticipantsToEvent(eventId,
+                    participants(FIRST_PARTICIPANT_ID, contested, FIRST_PARTICIPANT_ID + 2)));
+            awaitLockWait();
+            competitor.commit();
+        }
+
+        List<RegistrationResultDTO> results = batch.get(10, TimeUnit.SECONDS);
+        assertEquals(List.of(Status.REGISTERED, Status.ALREADY_REGISTERED, Status.REGISTERED),
+                results.stream().map(RegistrationResultDTO::getStatus).toList());
+        assertEquals(PARTICIPANTS, registrations(eventId));
+        assertEquals(PARTICIPANTS, totalParticipants(eventId));
+    }
+
+    private void awaitLockWait() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (jdbcTemplate.queryForObject("SELECT count(*) FROM pg_stat_activity "
+                + "WHERE wait_event_type = 'Lock' AND query LIKE 'INSERT INTO event_participant%'", Integer.class) == 0) {
+            assertTrue(System.nanoTime() < deadline, "The batch insert never waited for the competing registration");
+            Thread.sleep(20);
+        }
+    }
+
+    private int registrations(Long eventId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM event_participant WHERE event_id = ?",
+                Integer.class, eventId);
+    }
+
+    private int totalParticipants(Long eventId) {
+        return jdbcTemplate.queryForObject("SELECT total_participants FROM events WHERE id = ?",
+                Integer.class, eventId);
+    }
+
+    private static List<ParticipantDTO> participants(long... ids) {
+        return LongStream.of(ids).mapToObj(id -> {
+            ParticipantDTO participant = new ParticipantDTO();
+            participant.setId(id);
+            return participant;
+        }).toList();
+    }
+
+    private Long createEvent() {
+        Event event = new Event();
+        event.setName("Batch registration test");
+        event.setDateTime(Instant.now().plus(3, ChronoUnit.DAYS));
+        event.setLocation("Viljandi");
+        return eventService.createEvent(event).getId();
+    }
+}
@@ -0,0 +1,104 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.dto.CheckInResultDTO;
+import com.attendify.backend.exception.ResourceNotFoundException;
+import com.attendify.backend.repository.AttendanceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckInServiceImplTest {
+    private static final long EVENT_ID = 1L;
+    private static final long PARTICIPANT_ID = 10L;
+    private static final String CODE = "39005270891";
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private AttendeeRosters attendeeRosters;
+
+    private CheckInServiceImpl checkInService;
+    private AttendeeRosters.Roster roster;
+
+    @BeforeEach
+    void setUp() {
+        checkInService = new CheckInServiceImpl(attendanceRepository, attendeeRosters, new SimpleMeterRegistry());
+        roster = roster();
+        when(attendeeRosters.get(EVENT_ID)).thenReturn(roster);
+    }
+
+    @Test
+    void checkIn_ShouldCountTheCheckIn() {
+        previousStatus("REGISTERED");
+        when(attendeeRosters.getIfLoaded(EVENT_ID)).thenReturn(roster);
+
+        CheckInResultDTO result = checkInService.checkIn(EVENT_ID, CODE);
+
+        assertEquals(CheckInResultDTO.Status.CHECKED_IN, result.getStatus());
+        assertEquals(1, result.getAttended());
+        assertEquals(1, roster.getAttended());
+    }
+
+    @Test
+    void checkIn_WhenRosterWasReloadedAfterTheUpdate_ShouldNotCountTwice() {
+        // Loaded after the update committed, so it already counts the check-in
+        AttendeeRosters.Roster reloaded = new AttendeeRosters.Roster(EVENT_ID,
+                Map.of(CODE, new AttendeeRosters.Attendee(PARTICIPANT_ID, "Mari Maasikas")), 1, 1);
+        previousStatus("REGISTERED");
+        when(attendeeRosters.getIfLoaded(EVENT_ID)).thenReturn(reloaded);
+
+        CheckInResultDTO result = checkInService.checkIn(EVENT_ID, CODE);
+
+        assertEquals(1, result.getAttended());
+        assertEquals(1, reloaded.getAttended());
+        assertEquals(1, roster.getAttended());
+    }
+
+    @Test
+    void checkIn_WhenAlreadyCheckedIn_ShouldNotCountAgain() {
+        previousStatus("ATTENDED");
+        when(attendeeRosters.getIfLoaded(EVENT_ID)).thenReturn(roster);
+
+        CheckInResultDTO result = checkInService.checkIn(EVENT_ID, CODE);
+
+        assertEquals(CheckInResultDTO.Status.ALREADY_CHECKED_IN, result.getStatus());
+        assertEquals(0, roster.getAttended());
+    }
+
+    @Test
+    void checkIn_WhenUnregisteredSinceRosterLoaded_ShouldReloadAndThrowResourceNotFoundException() {
+        when(attendanceRepository.updateStatuses(eq(EVENT_ID), anyMap(), anyCollection())).thenReturn(Map.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> checkInService.checkIn(EVENT_ID, CODE));
+        verify(attendeeRosters).warm(EVENT_ID);
+    }
+
+    @Test
+    void checkIn_WithUnknownCode_ShouldThrowWithoutUpdating() {
+        assertThrows(ResourceNotFoundException.class, () -> checkInService.checkIn(EVENT_ID, "00000000000"));
+        verifyNoInteractions(attendanceRepository);
+    }
+
+    private void previousStatus(String status) {
+        when(attendanceRepository.updateStatuses(eq(EVENT_ID), anyMap(), anyCollection()))
+                .thenReturn(Map.of(PARTICIPANT_ID, status));
+    }
+
+    private static AttendeeRosters.Roster roster() {
+        return new AttendeeRosters.Roster(EVENT_ID,
+                Map.of(CODE, new AttendeeRosters.Attendee(PARTICIPANT_ID, "Mari Maasikas")), 1, 0);
+    }
+}
@@ -0,0 +1,83 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.TestFixtures.IdBlock;
+import com.attendify.backend.dto.EventAttendeeDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static com.attendify.backend.TestFixtures.insertPersons;
+import static com.attendify.backend.SqlStatementAssertions.assertSelectCount;
+import static com.attendify.backend.SqlStatementAssertions.assertStatementCount;
+import static com.attendify.backend.SqlStatementAssertions.clear;
+import static com.attendify.backend.SqlStatementAssertions.reset;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventAttendeeQueryCountTest extends TestContainerConfig {
+    private static final long FIRST_PARTICIPANT_ID = IdBlock.EVENT_ATTENDEE_QUERY_COUNT.firstId();
+    private static final int ATTENDEES = 3;
+
+    @Autowired
+    private EventParticipantService eventParticipantService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long eventId;
+
+    @BeforeEach
+    void setUp() {
+        insertPersons(jdbcTemplate, FIRST_PARTICIPANT_ID, ATTENDEES, "Query", "Count");
+        eventId = jdbcTemplate.queryForObject("INSERT INTO events (id, name, date_time) "
+                + "VALUES (nextval('events_id_seq'), 'Attendee query count test', now() + interval '1 day') RETURNING id",
+                Long.class);
+        jdbcTemplate.update("INSERT INTO event_participant (event_id, participant_id, event_date_time) "
+                + "SELECT e.id, g, e.date_time FROM events e, generate_series(?::bigint, ?::bigint) g WHERE e.id = ?",
+                FIRST_PARTICIPANT_ID, FIRST_PARTICIPANT_ID + ATTENDEES - 1, eventId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    @Test
+    void getEventAttendees_OfAPartialPage_ShouldNotRunACountQuery() {
+        reset();
+        Page<EventAttendeeDTO> attendees = eventParticipantService.getEventAttendees(eventId, PageRequest.of(0, 50));
+
+        // existence check + page query; the total follows from the short first page
+        assertStatementCount(2);
+        assertSelectCount(2);
+        assertEquals(ATTENDEES, attendees.getTotalElements());
+    }
+
+    @Test
+    void getEventAttendees_OfAFullPage_ShouldAddOneCountQuery() {
+        reset();
+        Page<EventAttendeeDTO> attendees = eventParticipantService.getEventAttendees(eventId, PageRequest.of(0, 2));
+
+        // existence check + page query + count query, whatever the page size
+        assertStatementCount(3);
+        assertSelectCount(3);
+        assertEquals(2, attendees.getNumberOfElements());
+        assertEquals(ATTENDEES, attendees.getTotalElements());
+    }
+
+    @Test
+    void getEventAttendees_ShouldExposeRegistrationDetails() {
+        Page<EventAttendeeDTO> attendees = eventParticipantService.getEventAttendees(eventId, PageRequest.of(0, 50));
+
+        assertEquals(ATTENDEES, attendees.getNumberOfElements());
+        attendees.forEach(attendee -> {
+            assertNotNull(attendee.getType());
+            assertEquals("REGISTERED", attendee.getAttendanceStatus());
+            assertNotNull(attendee.getRegisteredAt());
+        });
+    }
+}
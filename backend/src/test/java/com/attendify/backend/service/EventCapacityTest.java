@@ -0,0 +1,173 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.TestFixtures.IdBlock;
+import com.attendify.backend.domain.Event;
+import com.attendify.backend.dto.ParticipantDTO;
+import com.attendify.backend.dto.RegistrationResultDTO;
+import com.attendify.backend.exception.EventFullException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static com.attendify.backend.TestFixtures.insertPersons;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventCapacityTest extends TestContainerConfig {
+    private static final long FIRST_PARTICIPANT_ID = IdBlock.EVENT_CAPACITY.firstId();
+    private static final int PARTICIPANTS = 4_000;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventParticipantService eventParticipantService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        insertPersons(jdbcTemplate, FIRST_PARTICIPANT_ID, PARTICIPANTS, "Mari", "Tamm");
+    }
+
+    @Test
+    void concurrentRegistrations_ShouldNeverOverbook() throws InterruptedException {
+        int capacity = 250;
+        Long eventId = createEvent(capacity);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger registered = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < PARTICIPANTS; i++) {
+                long participantId = FIRST_PARTICIPANT_ID + i;
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        eventParticipantService.addParticipantToEvent(eventId, participant(participantId));
+                        registered.incrementAndGet();
+                    } catch (EventFullException e) {
+                        full.incrementAndGet();
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    }
+                });
+            }
+            start.countDown();
+        }
+
+        assertTrue(errors.isEmpty(), () -> "Unexpected failures: " + errors);
+        assertEquals(capacity, registered.get());
+        assertEquals(PARTICIPANTS - capacity, full.get());
+        assertEquals(capacity, registrations(eventId));
+        assertEquals(capacity, totalParticipants(eventId));
+    }
+
+    @Test
+    void insertOverCapacity_ShouldBeRefusedByDatabase() {
+        Long eventId = createEvent(1);
+        register(eventId, FIRST_PARTICIPANT_ID);
+
+        DataIntegrityViolationException e = assertThrows(DataIntegrityViolationException.class,
+                () -> register(eventId, FIRST_PARTICIPANT_ID + 1));
+        assertTrue(SeatReservations.isCapacityViolation(e));
+        assertEquals(1, totalParticipants(eventId));
+    }
+
+    @Test
+    void staleCounters_ShouldBeCorrectedFromDatabase() {
+        Long eventId = createEvent(2);
+        eventParticipantService.addParticipantToEvent(eventId, participant(FIRST_PARTICIPANT_ID));
+        // Another instance takes the last seat behind this instance's counters
+        register(eventId, FIRST_PARTICIPANT_ID + 1);
+
+        // The counters still see a free seat, the trigger does not
+        assertThrows(EventFullException.class,
+                () -> eventParticipantService.addParticipantToEvent(eventId, participant(FIRST_PARTICIPANT_ID + 2)));
+        // Re-read from the database, so refused without reaching it
+        assertThrows(EventFullException.class,
+                () -> eventParticipantService.addParticipantToEvent(eventId, participant(FIRST_PARTICIPANT_ID + 2)));
+
+        eventParticipantService.removeParticipantFromEvent(eventId, FIRST_PARTICIPANT_ID);
+        eventParticipantService.addParticipantToEvent(eventId, participant(FIRST_PARTICIPANT_ID + 2));
+        assertEquals(2, totalParticipants(eventId));
+    }
+
+    @Test
+    void batchRegistration_ShouldMarkRowsOverCapacityAsFull() {
+        Long eventId = createEvent(3);
+        List<ParticipantDTO> batch = LongStream.range(0, 5)
+                .mapToObj(i -> participant(FIRST_PARTICIPANT_ID + i))
+                .toList();
+
+        List<RegistrationResultDTO> results = eventParticipantService.addParticipantsToEvent(eventId, batch);
+
+        assertEquals(List.of(RegistrationResultDTO.Status.REGISTERED, RegistrationResultDTO.Status.REGISTERED,
+                        RegistrationResultDTO.Status.REGISTERED, RegistrationResultDTO.Status.EVENT_FULL,
+                        RegistrationResultDTO.Status.EVENT_FULL),
+                results.stream().map(RegistrationResultDTO::getStatus).toList());
+        assertEquals(3, totalParticipants(eventId));
+    }
+
+    @Test
+    void batchRegistration_WhenDatabaseRefusesStaleCounters_ShouldMarkOnlyTheRowsThatDoNotFitAsFull() {
+        Long eventId = createEvent(3);
+        eventParticipantService.addParticipantToEvent(eventId, participant(FIRST_PARTICIPANT_ID));
+        // Another instance takes a seat behind this instance's counters
+        register(eventId, FIRST_PARTICIPANT_ID + 1);
+
+        // The counters admit both, the trigger only has room for one
+        List<RegistrationResultDTO> results = eventParticipantService.addParticipantsToEvent(eventId,
+                List.of(participant(FIRST_PARTICIPANT_ID + 2), participant(FIRST_PARTICIPANT_ID + 3)));
+
+        assertEquals(List.of(RegistrationResultDTO.Status.REGISTERED, RegistrationResultDTO.Status.EVENT_FULL),
+                results.stream().map(RegistrationResultDTO::getStatus).toList());
+        assertEquals(3, totalParticipants(eventId));
+        assertEquals(3, registrations(eventId));
+    }
+
+    private Long createEvent(int capacity) {
+        Event event = new Event();
+        event.setName("Capacity test");
+        event.setDateTime(Instant.now().plus(7, ChronoUnit.DAYS));
+        event.setLocation("Tartu");
+        event.setCapacity(capacity);
+        return eventService.createEvent(event).getId();
+    }
+
+    private void register(Long eventId, long participantId) {
+        jdbcTemplate.update("INSERT INTO event_participant (event_id, participant_id, event_date_time) "
+                + "SELECT id, ?, date_time FROM events WHERE id = ?", participantId, eventId);
+    }
+
+    private int registrations(Long eventId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_participant WHERE event_id = ?",
+                Integer.class, eventId);
+    }
+
+    private int totalParticipants(Long eventId) {
+        return jdbcTemplate.queryForObject("SELECT total_participants FROM events WHERE id = ?",
+                Integer.class, eventId);
+    }
+
+    private static ParticipantDTO participant(long id) {
+        ParticipantDTO participant = new ParticipantDTO();
+        participant.setId(id);
+        return participant;
+    }
+}
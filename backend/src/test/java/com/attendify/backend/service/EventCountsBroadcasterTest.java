@@ -0,0 +1,121 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.dto.EventCountsDTO;
+import com.attendify.backend.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventCountsBroadcasterTest {
+    private static final long EVENT_ID = 1L;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstSend = new CountDownLatch(1);
+    private final List<EventCountsDTO> sent = new CopyOnWriteArrayList<>();
+
+    private EventCountsBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new EventCountsBroadcaster(eventRepository, Duration.ofMinutes(1)) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                return new RecordingEmitter(timeoutMillis);
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstSend.countDown();
+        broadcaster.close();
+    }
+
+    @Test
+    void changeLandingDuringASend_ShouldBeSentAfterIt() throws InterruptedException {
+        EventRepository.LiveCounts initial = counts(0);
+        EventRepository.LiveCounts changed = counts(1);
+        when(eventRepository.findLiveCountsByIdIn(anyCollection()))
+                .thenReturn(List.of(initial))
+                .thenReturn(List.of(changed));
+
+        broadcaster.subscribe(Set.of(EVENT_ID));
+        assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+
+        // The last change of a burst: no later change will trigger another flush
+        broadcaster.eventChanged(EVENT_ID);
+        broadcaster.flush();
+        releaseFirstSend.countDown();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sent.size() < 2) {
+            assertTrue(System.nanoTime() < deadline, "The pending counts were not sent: " + sent);
+            Thread.sleep(10);
+        }
+        assertEquals(0, sent.get(0).getRegistered());
+        assertEquals(1, sent.get(1).getRegistered());
+        verify(eventRepository, times(2)).findLiveCountsByIdIn(anyCollection());
+    }
+
+    @Test
+    void eventChanged_WithoutSubscribers_ShouldNotQueryCounts() {
+        broadcaster.eventChanged(EVENT_ID);
+        broadcaster.flush();
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    private static EventRepository.LiveCounts counts(int registered) {
+        EventRepository.LiveCounts counts = mock(EventRepository.LiveCounts.class);
+        when(counts.getEventId()).thenReturn(EVENT_ID);
+        when(counts.getRegistered()).thenReturn(registered);
+        return counts;
+    }
+
+    /**
+     * Records the counts it is asked to send; the first send blocks until the test releases it.
+     */
+    private final class RecordingEmitter extends SseEmitter {
+
+        private RecordingEmitter(long timeoutMillis) {
+            super(timeoutMillis);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (firstSendStarted.getCount() > 0) {
+                firstSendStarted.countDown();
+                try {
+                    releaseFirstSend.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof List<?> batch) {
+                    batch.forEach(counts -> sent.add((EventCountsDTO) counts));
+                }
+            }
+        }
+    }
+}
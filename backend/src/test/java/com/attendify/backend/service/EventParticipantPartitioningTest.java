@@ -0,0 +1,81 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.domain.Event;
+import com.attendify.backend.dto.ParticipantDTO;
+import com.attendify.backend.mapper.EventMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class EventParticipantPartitioningTest extends TestContainerConfig {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventParticipantService eventParticipantService;
+
+    @Autowired
+    private EventMapper eventMapper;
+
+    @Autowired
+    private EventParticipantPartitionMaintainer partitionMaintainer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void registrations_ShouldFollowTheirEventAcrossYearPartitions() {
+        Event event = new Event();
+        event.setName("Partitioning test");
+        event.setDateTime(ZonedDateTime.of(2091, 6, 1, 18, 0, 0, 0, ZoneOffset.UTC).toInstant());
+        event.setLocation("Viljandi");
+        Long eventId = eventService.createEvent(event).getId();
+
+        ParticipantDTO person = new ParticipantDTO();
+        person.setId(1L);
+        eventParticipantService.addParticipantToEvent(eventId, person);
+        ParticipantDTO company = new ParticipantDTO();
+        company.setId(11L);
+        eventParticipantService.addParticipantsToEvent(eventId, List.of(company));
+        assertEquals(List.of("event_participant_y2091"), partitionsOf(eventId));
+        int total = totalParticipants(eventId);
+
+        Event rescheduled = eventMapper.toEntity(eventService.getEventById(eventId));
+        rescheduled.setDateTime(ZonedDateTime.of(2092, 1, 15, 18, 0, 0, 0, ZoneOffset.UTC).toInstant());
+        eventService.updateEvent(rescheduled);
+
+        assertEquals(List.of("event_participant_y2092"), partitionsOf(eventId));
+        assertEquals(total, totalParticipants(eventId));
+        assertEquals(2, eventParticipantService.getEventAttendees(eventId, PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void maintainer_ShouldCreatePartitionsForTheComingYears() {
+        partitionMaintainer.createUpcomingPartitions();
+
+        int nextYear = ZonedDateTime.now(ZoneOffset.UTC).plusYears(1).getYear();
+        assertNotNull(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class,
+                "event_participant_y" + nextYear));
+        assertEquals(0, partitionMaintainer.createUpcomingPartitions());
+    }
+
+    private List<String> partitionsOf(Long eventId) {
+        return jdbcTemplate.queryForList("SELECT DISTINCT tableoid::regclass::text FROM event_participant "
+                + "WHERE event_id = ?", String.class, eventId);
+    }
+
+    private int totalParticipants(Long eventId) {
+        return jdbcTemplate.queryForObject("SELECT total_participants FROM events WHERE id = ?",
+                Integer.class, eventId);
+    }
+}
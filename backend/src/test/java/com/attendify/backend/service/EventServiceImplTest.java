@@ -1,18 +1,20 @@
 package com.attendify.backend.service;
 
 import com.attendify.backend.domain.Event;
+import com.attendify.backend.dto.EventDTO;
 import com.attendify.backend.exception.ResourceNotFoundException;
+import com.attendify.backend.mapper.EventMapper;
 import com.attendify.backend.repository.EventRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Instant;
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,11 +28,19 @@ public class EventServiceImplTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Spy
+    private EventMapper eventMapper;
+
+    @Mock
+    private SeatReservations seatReservations;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EventServiceImpl eventService;
 
     private Event event1;
-    private Event event2;
     private Instant now;
 
     @BeforeEach
@@ -45,44 +55,6 @@ public class EventServiceImplTest {
         event1.setLocation("Test Location 1");
         event1.setStatus("SCHEDULED");
         event1.setAdditionalInfo("Test Info 1");
-
-        event2 = new Event();
-        event2.setId(2L);
-        event2.setName("Test Event 2");
-        event2.setDateTime(now.minusSeconds(86400)); // yesterday
-        event2.setLocation("Test Location 2");
-        event2.setStatus("COMPLETED");
-        event2.setAdditionalInfo("Test Info 2");
-    }
-
-    @Test
-    void getFutureEvents_ShouldReturnFutureEvents() {
-        // Arrange
-        when(eventRepository.findByDateTimeAfterOrderByDateTime(any(Instant.class)))
-                .thenReturn(Collections.singletonList(event1));
-
-        // Act
-        List<Event> result = eventService.getFutureEvents();
-
-        // Assert
-        assertEquals(1, result.size());
-        assertEquals("Test Event 1", result.getFirst().getName());
-        verify(eventRepository, times(1)).findByDateTimeAfterOrderByDateTime(any(Instant.class));
-    }
-
-    @Test
-    void getPastEvents_ShouldReturnPastEvents() {
-        // Arrange
-        when(eventRepository.findByDateTimeBeforeOrderByDateTimeDesc(any(Instant.class)))
-                .thenReturn(Collections.singletonList(event2));
-
-        // Act
-        List<Event> result = eventService.getPastEvents();
-
-        // Assert
-        assertEquals(1, result.size());
-        assertEquals("Test Event 2", result.getFirst().getName());
-        verify(eventRepository, times(1)).findByDateTimeBeforeOrderByDateTimeDesc(any(Instant.class));
     }
 
     @Test
@@ -91,7 +63,7 @@ public class EventServiceImplTest {
         when(eventRepository.findById(1L)).thenReturn(Optional.of(event1));
 
         // Act
-        Event result = eventService.getEventById(1L);
+        EventDTO result = eventService.getEventById(1L);
 
         // Assert
         assertNotNull(result);
@@ -229,4 +201,16 @@ public class EventServiceImplTest {
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> eventService.createEvent(invalidEvent));
     }
-}
\ No newline at end of file
+
+    @Test
+    void validateEvent_WithNonPositiveCapacity_ShouldThrowException() {
+        // Arrange
+        event1.setCapacity(0);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> eventService.createEvent(event1));
+        assertEquals("Event capacity must be positive", exception.getMessage());
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+}
@@ -0,0 +1,132 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.domain.Event;
+import com.attendify.backend.dto.EventDTO;
+import com.attendify.backend.mapper.EventMapper;
+import com.attendify.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventTimelineTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private Clock clock;
+
+    private EventTimeline eventTimeline;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.parse("2025-06-01T12:00:00Z");
+        lenient().when(clock.instant()).thenAnswer(invocation -> now);
+        lenient().when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        eventTimeline = new EventTimeline(eventRepository, new EventMapper(), clock);
+    }
+
+    @Test
+    void reload_ShouldSplitEventsAtCurrentInstant() {
+        // Arrange
+        when(eventRepository.findAll()).thenReturn(List.of(
+                event(1L, now.plusSeconds(7200)),
+                event(2L, now.minusSeconds(3600)),
+                event(3L, now.plusSeconds(3600)),
+                event(4L, now.minusSeconds(7200))));
+
+        // Act
+        eventTimeline.reload();
+
+        // Assert
+        assertEquals(List.of(3L, 1L), ids(eventTimeline.getFutureEvents(0, 10)));
+        assertEquals(List.of(2L, 4L), ids(eventTimeline.getPastEvents(0, 10)));
+    }
+
+    @Test
+    void getFutureEvents_ShouldRollEventIntoPastWhenClockPassesIt() {
+        // Arrange
+        when(eventRepository.findAll()).thenReturn(List.of(event(1L, now.plusSeconds(60))));
+        eventTimeline.reload();
+
+        // Act
+        now = now.plusSeconds(120);
+
+        // Assert
+        assertTrue(eventTimeline.getFutureEvents(0, 10).isEmpty());
+        assertEquals(List.of(1L), ids(eventTimeline.getPastEvents(0, 10)));
+    }
+
+    @Test
+    void getPastEvents_ShouldReturnRequestedSlice() {
+        // Arrange
+        when(eventRepository.findAll()).thenReturn(List.of(
+                event(1L, now.minusSeconds(100)),
+                event(2L, now.minusSeconds(200)),
+                event(3L, now.minusSeconds(300)),
+                event(4L, now.minusSeconds(400)),
+                event(5L, now.minusSeconds(500))));
+        eventTimeline.reload();
+
+        // Act & Assert
+        assertEquals(List.of(3L, 4L), ids(eventTimeline.getPastEvents(1, 2)));
+        assertEquals(List.of(5L), ids(eventTimeline.getPastEvents(2, 2)));
+        assertTrue(eventTimeline.getPastEvents(3, 2).isEmpty());
+    }
+
+    @Test
+    void onEventsChanged_ShouldMoveUpdatedEventAndDropDeletedOne() {
+        // Arrange
+        when(eventRepository.findAll()).thenReturn(List.of(
+                event(1L, now.plusSeconds(3600)),
+                event(2L, now.plusSeconds(7200))));
+        eventTimeline.reload();
+        when(eventRepository.findAllById(Set.of(1L, 2L)))
+                .thenReturn(List.of(event(1L, now.minusSeconds(3600))));
+
+        // Act
+        eventTimeline.onEventsChanged(new EventsChangedEvent(Set.of(1L, 2L)));
+
+        // Assert
+        assertTrue(eventTimeline.getFutureEvents(0, 10).isEmpty());
+        assertEquals(List.of(1L), ids(eventTimeline.getPastEvents(0, 10)));
+        verify(eventRepository, times(1)).findAll();
+    }
+
+    @Test
+    void getFutureEvents_WithInvalidPaging_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        when(eventRepository.findAll()).thenReturn(Collections.emptyList());
+        eventTimeline.reload();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> eventTimeline.getFutureEvents(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> eventTimeline.getFutureEvents(0, 0));
+    }
+
+    private static Event event(Long id, Instant dateTime) {
+        Event event = new Event();
+        event.setId(id);
+        event.setName("Event " + id);
+        event.setDateTime(dateTime);
+        return event;
+    }
+
+    private static List<Long> ids(List<EventDTO> events) {
+        return events.stream().map(EventDTO::getId).toList();
+    }
+}
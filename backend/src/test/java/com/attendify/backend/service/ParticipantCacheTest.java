@@ -0,0 +1,61 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.domain.Person;
+import com.attendify.backend.repository.ParticipantRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static com.attendify.backend.SqlStatementAssertions.assertSelectCount;
+import static com.attendify.backend.SqlStatementAssertions.assertStatementCount;
+import static com.attendify.backend.SqlStatementAssertions.clear;
+import static com.attendify.backend.SqlStatementAssertions.reset;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticipantCacheTest extends TestContainerConfig {
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    @Test
+    void getParticipantById_ShouldBeServedFromSecondLevelCache() {
+        reset();
+        Person first = (Person) participantService.getParticipantById(1L);
+        assertSelectCount(1);
+
+        reset();
+        Person second = (Person) participantService.getParticipantById(1L);
+        assertStatementCount(0);
+        assertEquals(first.getPersonalCode(), second.getPersonalCode());
+    }
+
+    @Test
+    void existsByPersonalCode_ShouldBeServedFromQueryCache() {
+        reset();
+        assertTrue(participantRepository.existsByPersonalCode("48002093759"));
+        assertSelectCount(1);
+
+        reset();
+        assertTrue(participantRepository.existsByPersonalCode("48002093759"));
+        assertStatementCount(0);
+    }
+}
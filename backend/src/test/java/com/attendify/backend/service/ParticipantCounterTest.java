@@ -0,0 +1,182 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.TestFixtures.IdBlock;
+import com.attendify.backend.domain.Event;
+import com.attendify.backend.dto.ParticipantDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import static com.attendify.backend.TestFixtures.insertPersons;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Keeps {@code events.total_participants} in step through the seat-count and statement-level
+ * delta triggers of {@code participant-counter.yaml}: a person takes one seat, a company its
+ * {@code participant_count}.
+ */
+class ParticipantCounterTest extends TestContainerConfig {
+    private static final long FIRST_PERSON_ID = IdBlock.PARTICIPANT_COUNTER.firstId();
+    private static final int PERSONS = 3;
+    private static final long COMPANY_ID = FIRST_PERSON_ID + 10;
+    private static final int COMPANY_SEATS = 5;
+    private static final long FIRST_RACING_PERSON_ID = FIRST_PERSON_ID + 100;
+    private static final int RACING_PERSONS = 60;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventParticipantService eventParticipantService;
+
+    @Autowired
+    private ParticipantCounterReconciler participantCounterReconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        insertPersons(jdbcTemplate, FIRST_PERSON_ID, PERSONS, "Loendur", "Test");
+        jdbcTemplate.update("INSERT INTO participants (id, participant_type, payment_method) "
+                + "VALUES (?, 'COMPANY', 'BANK_TRANSFER') ON CONFLICT DO NOTHING", COMPANY_ID);
+        jdbcTemplate.update("INSERT INTO companies (id, company_name, registration_code, participant_count) "
+                + "VALUES (?, 'Loendur OÜ', ?, ?) ON CONFLICT DO NOTHING", COMPANY_ID, String.valueOf(COMPANY_ID), COMPANY_SEATS);
+        jdbcTemplate.update("UPDATE companies SET participant_count = ? WHERE id = ?", COMPANY_SEATS, COMPANY_ID);
+    }
+
+    @Test
+    void registrations_ShouldAddTheirSeatsToTheirEventOnly() {
+        Long eventId = createEvent();
+        Long otherEventId = createEvent();
+
+        eventParticipantService.addParticipantToEvent(eventId, participant(FIRST_PERSON_ID));
+        assertEquals(1, totalParticipants(eventId));
+
+        // One multi-row INSERT: the statement trigger applies the summed delta once
+        eventParticipantService.addParticipantsToEvent(eventId,
+                participants(FIRST_PERSON_ID + 1, FIRST_PERSON_ID + 2, COMPANY_ID));
+        assertEquals(PERSONS + COMPANY_SEATS, totalParticipants(eventId));
+        assertEquals(0, totalParticipants(otherEventId));
+        assertCountedFromRegistrations(eventId);
+    }
+
+    @Test
+    void unregistering_ShouldGiveTheSeatsBack() {
+        Long eventId = createEvent();
+        eventParticipantService.addParticipantsToEvent(eventId, participants(FIRST_PERSON_ID, COMPANY_ID));
+
+        eventParticipantService.removeParticipantFromEvent(eventId, COMPANY_ID);
+        assertEquals(1, totalParticipants(eventId));
+
+        eventParticipantService.removeParticipantFromEvent(eventId, FIRST_PERSON_ID);
+        assertEquals(0, totalParticipants(eventId));
+    }
+
+    @Test
+    void companyParticipantCountChange_ShouldMoveTheTotalOfEveryEventItIsRegisteredFor() {
+        Long eventId = createEvent();
+        Long otherEventId = createEvent();
+        eventParticipantService.addParticipantsToEvent(eventId, participants(FIRST_PERSON_ID, COMPANY_ID));
+        eventParticipantService.addParticipantToEvent(otherEventId, participant(COMPANY_ID));
+
+        jdbcTemplate.update("UPDATE companies SET participant_count = ? WHERE id = ?", COMPANY_SEATS + 2, COMPANY_ID);
+
+        assertEquals(1 + COMPANY_SEATS + 2, totalParticipants(eventId));
+        assertEquals(COMPANY_SEATS + 2, totalParticipants(otherEventId));
+        assertCountedFromRegistrations(eventId);
+        assertCountedFromRegistrations(otherEventId);
+    }
+
+    @Test
+    void bulkDelete_ShouldSubtractEveryRemovedSeatOnce() {
+        Long eventId = createEvent();
+        Long otherEventId = createEvent();
+        eventParticipantService.addParticipantsToEvent(eventId, participants(FIRST_PERSON_ID, FIRST_PERSON_ID + 1, COMPANY_ID));
+        eventParticipantService.addParticipantsToEvent(otherEventId, participants(FIRST_PERSON_ID, COMPANY_ID));
+
+        jdbcTemplate.update("DELETE FROM event_participant WHERE event_id IN (?, ?) AND participant_id = ?",
+                eventId, otherEventId, COMPANY_ID);
+
+        assertEquals(2, totalParticipants(eventId));
+        assertEquals(1, totalParticipants(otherEventId));
+        assertCountedFromRegistrations(eventId);
+        assertCountedFromRegistrations(otherEventId);
+    }
+
+    @Test
+    void reconcile_DuringRegistrations_ShouldNotWriteAStaleTotalBack() throws Exception {
+        insertPersons(jdbcTemplate, FIRST_RACING_PERSON_ID, RACING_PERSONS, "Loendur", "Test");
+        Long eventId = createEvent();
+        AtomicBoolean registering = new AtomicBoolean(true);
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+        CompletableFuture<Void> reconciling = CompletableFuture.runAsync(() -> {
+            while (registering.get()) {
+                participantCounterReconciler.reconcile();
+            }
+        });
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < RACING_PERSONS; i++) {
+                long participantId = FIRST_RACING_PERSON_ID + i;
+                executor.submit(() -> {
+                    try {
+                        eventParticipantService.addParticipantToEvent(eventId, participant(participantId));
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    }
+                });
+            }
+        } finally {
+            registering.set(false);
+        }
+        reconciling.get(30, TimeUnit.SECONDS);
+
+        assertTrue(errors.isEmpty(), () -> "Unexpected failures: " + errors);
+        assertEquals(RACING_PERSONS, totalParticipants(eventId));
+        assertCountedFromRegistrations(eventId);
+    }
+
+    private void assertCountedFromRegistrations(Long eventId) {
+        assertEquals(jdbcTemplate.queryForObject("SELECT COALESCE(SUM(seat_count), 0) FROM event_participant "
+                + "WHERE event_id = ?", Integer.class, eventId), totalParticipants(eventId));
+    }
+
+    private int totalParticipants(Long eventId) {
+        return jdbcTemplate.queryForObject("SELECT total_participants FROM events WHERE id = ?",
+                Integer.class, eventId);
+    }
+
+    private static ParticipantDTO participant(long id) {
+        ParticipantDTO participant = new ParticipantDTO();
+        participant.setId(id);
+        return participant;
+    }
+
+    private static List<ParticipantDTO> participants(long... ids) {
+        return LongStream.of(ids).mapToObj(ParticipantCounterTest::participant).toList();
+    }
+
+    private Long createEvent() {
+        Event event = new Event();
+        event.setName("Participant counter test");
+        event.setDateTime(Instant.now().plus(4, ChronoUnit.DAYS));
+        event.setLocation("Pärnu");
+        return eventService.createEvent(event).getId();
+    }
+}
@@ -0,0 +1,111 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.dto.ParticipantImportEventDTO;
+import com.attendify.backend.dto.ParticipantImportEventDTO.Type;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticipantImportTest extends TestContainerConfig {
+    private static final int VALID_PERSONS = 1100;
+    private static final String CODE_PREFIX = "61001";
+    private static final String COMPANY_CODE = "95000001";
+
+    @Autowired
+    private ParticipantImportService participantImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void importParticipants_WithMixedCsv_ShouldImportValidRowsInChunksAndReportTheRest() {
+        StringBuilder csv = new StringBuilder("type,firstName,lastName,personalCode,companyName,registrationCode,participantCount,paymentMethod\n");
+        for (int i = 0; i < VALID_PERSONS; i++) {
+            csv.append("PERSON,Imported,Person ").append(i).append(',').append(personalCode(i)).append(",,,,CARD\n");
+        }
+        String badChecksum = personalCode(VALID_PERSONS).substring(0, 10)
+                + (char) ('0' + (personalCode(VALID_PERSONS).charAt(10) - '0' + 1) % 10);
+        csv.append("PERSON,Bad,Checksum,").append(badChecksum).append(",,,,CARD\n")            // record 1101
+                .append("PERSON,Earlier,Chunk,").append(personalCode(0)).append(",,,,CARD\n")   // 1102
+                .append("PERSON,Same,Chunk,").append(personalCode(1049)).append(",,,,CARD\n")   // 1103
+                .append("PERSON,Already,Registered,48002093759,,,,CARD\n")                      // 1104
+                .append("ROBOT,,,,,,,CARD\n")                                                   // 1105
+                .append("COMPANY,,,,\"Import, Test OÜ\",").append(COMPANY_CODE).append(",3,BANK_TRANSFER\n") // 1106
+                .append("COMPANY,,,,,95000002,2,CASH\n");                                       // 1107
+
+        List<ParticipantImportEventDTO> events = new ArrayList<>();
+        ParticipantImportEventDTO result = participantImportService.importParticipants(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)),
+                ParticipantImportService.Format.CSV, events::add);
+
+        assertEquals(Type.COMPLETED, result.getType());
+        assertEquals(1107, result.getProcessed());
+        assertEquals(1101, result.getImported());
+        assertEquals(6, result.getRejected());
+
+        Map<Long, String> rejections = events.stream()
+                .filter(event -> event.getType() == Type.REJECTED)
+                .collect(Collectors.toMap(ParticipantImportEventDTO::getRecord, ParticipantImportEventDTO::getMessage));
+        assertEquals(List.of(1101L, 1102L, 1103L, 1104L, 1105L, 1107L), rejections.keySet().stream().sorted().toList());
+        assertTrue(rejections.get(1101L).contains("checksum"), rejections.get(1101L));
+        assertEquals("Person with this personal code already exists", rejections.get(1102L));
+        assertEquals("Duplicate personal code in upload", rejections.get(1103L));
+        assertEquals("Person with this personal code already exists", rejections.get(1104L));
+        assertEquals("Unknown participant type: ROBOT", rejections.get(1105L));
+        assertTrue(rejections.get(1107L).contains("companyName"), rejections.get(1107L));
+
+        // One progress line per chunk of ParticipantImportServiceImpl.CHUNK_SIZE records
+        List<ParticipantImportEventDTO> progress = events.stream()
+                .filter(event -> event.getType() == Type.PROGRESS)
+                .toList();
+        assertEquals(2, progress.size());
+        assertEquals(ParticipantImportServiceImpl.CHUNK_SIZE, progress.get(0).getProcessed());
+        assertEquals(ParticipantImportServiceImpl.CHUNK_SIZE, progress.get(0).getImported());
+        assertEquals(0, progress.get(0).getRejected());
+        assertEquals(1107, progress.get(1).getProcessed());
+        assertEquals(Type.COMPLETED, events.getLast().getType());
+
+        assertEquals(VALID_PERSONS, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM persons WHERE personal_code LIKE ?", Integer.class, CODE_PREFIX + "%"));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM persons WHERE personal_code = ?", Integer.class, badChecksum));
+        assertEquals("Import, Test OÜ", jdbcTemplate.queryForObject(
+                "SELECT company_name FROM companies WHERE registration_code = ?", String.class, COMPANY_CODE));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM companies WHERE registration_code = '95000002'", Integer.class));
+    }
+
+    /**
+     * Valid personal codes of people born on 1 and 2 January 2010, with sequence numbers 000-999.
+     */
+    private static String personalCode(int i) {
+        String withoutCheckDigit = CODE_PREFIX + String.format("%02d%03d", 1 + i / 1000, i % 1000);
+        return withoutCheckDigit + checkDigit(withoutCheckDigit);
+    }
+
+    private static int checkDigit(String code) {
+        int checksum = weightedSum(code, new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 1}) % 11;
+        if (checksum == 10) {
+            checksum = weightedSum(code, new int[]{3, 4, 5, 6, 7, 8, 9, 1, 2, 3}) % 11;
+        }
+        return checksum == 10 ? 0 : checksum;
+    }
+
+    private static int weightedSum(String code, int[] weights) {
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += (code.charAt(i) - '0') * weights[i];
+        }
+        return sum;
+    }
+}
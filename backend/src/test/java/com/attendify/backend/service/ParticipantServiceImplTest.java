@@ -5,7 +5,10 @@ import com.attendify.backend.domain.Participant;
 import com.attendify.backend.domain.Person;
 import com.attendify.backend.exception.DuplicateResourceException;
 import com.attendify.backend.exception.ResourceNotFoundException;
+import com.attendify.backend.mapper.EventMapper;
+import com.attendify.backend.repository.EventParticipantRepository;
 import com.attendify.backend.repository.ParticipantRepository;
+import com.attendify.backend.repository.search.ParticipantSearchRepository;
 import jakarta.validation.constraints.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,14 +16,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +39,24 @@ class ParticipantServiceImplTest {
     @Mock
     private ParticipantRepository participantRepository;
 
+    @Mock
+    private ParticipantSearchRepository participantSearchRepository;
+
+    @Mock
+    private EventParticipantRepository eventParticipantRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SeatReservations seatReservations;
+
+    @Mock
+    private EventMapper eventMapper;
+
+    @Mock
+    private Clock clock;
+
     @InjectMocks
     private ParticipantServiceImpl participantService;
 
@@ -99,14 +125,14 @@ class ParticipantServiceImplTest {
         String type = "person";
         String field = "name";
         Page<Participant> expectedPage = new PageImpl<>(Collections.singletonList(person));
-        when(participantRepository.searchPersonsByField(query, field, pageable)).thenReturn(expectedPage);
+        when(participantSearchRepository.search(query, "PERSON", field, pageable)).thenReturn(expectedPage);
 
         // Act
         Page<Participant> resultPage = participantService.searchParticipants(query, type, field, pageable);
 
         // Assert
         assertEquals(expectedPage, resultPage);
-        verify(participantRepository, times(1)).searchPersonsByField(query, field, pageable);
+        verify(participantSearchRepository, times(1)).search(query, "PERSON", field, pageable);
     }
 
     @Test
@@ -116,14 +142,14 @@ class ParticipantServiceImplTest {
         String type = "company";
         String field = "name";
         Page<Participant> expectedPage = new PageImpl<>(Collections.singletonList(company));
-        when(participantRepository.searchCompaniesByField(query, field, pageable)).thenReturn(expectedPage);
+        when(participantSearchRepository.search(query, "COMPANY", field, pageable)).thenReturn(expectedPage);
 
         // Act
         Page<Participant> resultPage = participantService.searchParticipants(query, type, field, pageable);
 
         // Assert
         assertEquals(expectedPage, resultPage);
-        verify(participantRepository, times(1)).searchCompaniesByField(query, field, pageable);
+        verify(participantSearchRepository, times(1)).search(query, "COMPANY", field, pageable);
     }
 
     @Test
@@ -133,14 +159,14 @@ class ParticipantServiceImplTest {
         String type = "";
         String field = "name";
         Page<Participant> expectedPage = new PageImpl<>(Arrays.asList(person, company));
-        when(participantRepository.searchParticipantsByField(query, field, pageable)).thenReturn(expectedPage);
+        when(participantSearchRepository.search(query, null, field, pageable)).thenReturn(expectedPage);
 
         // Act
         Page<Participant> resultPage = participantService.searchParticipants(query, type, field, pageable);
 
         // Assert
         assertEquals(expectedPage, resultPage);
-        verify(participantRepository, times(1)).searchParticipantsByField(query, field, pageable);
+        verify(participantSearchRepository, times(1)).search(query, null, field, pageable);
     }
 
     @Test
@@ -494,6 +520,42 @@ class ParticipantServiceImplTest {
         verify(participantRepository, times(1)).delete(person);
     }
 
+    @Test
+    void deleteParticipant_WhenRegistered_ShouldInvalidateTheSeatsOfItsEvents() {
+        when(participantRepository.findById(2L)).thenReturn(Optional.of(company));
+        when(eventParticipantRepository.findEventIdsByParticipantId(2L)).thenReturn(List.of(7L, 8L));
+
+        participantService.deleteParticipant(2L);
+
+        verify(seatReservations).invalidateAfterCommit(7L);
+        verify(seatReservations).invalidateAfterCommit(8L);
+        verify(eventPublisher).publishEvent(new EventsChangedEvent(Set.of(7L, 8L)));
+    }
+
+    @Test
+    void updateParticipant_WhenCompanyParticipantCountChanges_ShouldInvalidateTheSeatsOfItsEvents() {
+        Company updatedCompany = getUpdatedCompany();
+        when(participantRepository.findById(2L)).thenReturn(Optional.of(company));
+        when(eventParticipantRepository.findEventIdsByParticipantId(2L)).thenReturn(List.of(7L));
+        when(participantRepository.save(any(Company.class))).thenReturn(updatedCompany);
+
+        participantService.updateParticipant(2L, updatedCompany);
+
+        verify(seatReservations).invalidateAfterCommit(7L);
+    }
+
+    @Test
+    void updateParticipant_WhenCompanyParticipantCountIsUnchanged_ShouldKeepTheSeatCounters() {
+        Company updatedCompany = getUpdatedCompany();
+        updatedCompany.setParticipantCount(company.getParticipantCount());
+        when(participantRepository.findById(2L)).thenReturn(Optional.of(company));
+        when(participantRepository.save(any(Company.class))).thenReturn(updatedCompany);
+
+        participantService.updateParticipant(2L, updatedCompany);
+
+        verifyNoInteractions(seatReservations);
+    }
+
     @Test
     void deleteParticipant_WhenParticipantNotExists_ShouldThrowResourceNotFoundException() {
         // Arrange
@@ -580,4 +642,48 @@ class ParticipantServiceImplTest {
                 () -> participantService.validateRegistrationCode(null));
         assertEquals("Registration code cannot be null", exception6.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getParticipantEvents_Upcoming_ShouldBoundEventDatesFromNow() {
+        Instant now = Instant.parse("2026-03-01T12:00:00Z");
+        when(clock.instant()).thenReturn(now);
+        when(participantRepository.existsById(1L)).thenReturn(true);
+        when(eventParticipantRepository.findParticipantEvents(eq(1L), eq(false), eq(List.of("ATTENDED")), eq(now), any(), eq(pageable)))
+                .thenReturn(Page.empty(pageable));
+
+        participantService.getParticipantEvents(1L, "attended", "upcoming", pageable);
+
+        verify(eventParticipantRepository).findParticipantEvents(eq(1L), eq(false), eq(List.of("ATTENDED")), eq(now), any(), eq(pageable));
+    }
+
+    @Test
+    void getParticipantEvents_WithoutStatus_ShouldSkipTheStatusFilter() {
+        when(clock.instant()).thenReturn(Instant.parse("2026-03-01T12:00:00Z"));
+        when(participantRepository.existsById(1L)).thenReturn(true);
+        when(eventParticipantRepository.findParticipantEvents(eq(1L), eq(true), anyCollection(), any(), any(), eq(pageable)))
+                .thenReturn(Page.empty(pageable));
+
+        participantService.getParticipantEvents(1L, "", null, pageable);
+
+        verify(eventParticipantRepository).findParticipantEvents(eq(1L), eq(true), anyCollection(), any(), any(), eq(pageable));
+    }
+
+    @Test
+    void getParticipantEvents_WithInvalidFilters_ShouldThrowException() {
+        when(participantRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> participantService.getParticipantEvents(1L, null, "tomorrow", pageable));
+        assertThrows(IllegalArgumentException.class,
+                () -> participantService.getParticipantEvents(1L, "LATE", null, pageable));
+        verifyNoInteractions(eventParticipantRepository);
+    }
+
+    @Test
+    void getParticipantEvents_WhenParticipantNotFound_ShouldThrowException() {
+        when(participantRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> participantService.getParticipantEvents(1L, null, null, pageable));
+    }
+}
@@ -0,0 +1,133 @@
+package com.attendify.backend.service;
+
+import com.attendify.backend.TestContainerConfig;
+import com.attendify.backend.domain.Event;
+import com.attendify.backend.dto.ParticipantDTO;
+import com.attendify.backend.dto.RegistrationMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {
+        // Dispatch only when the test calls it
+        "attendify.outbox.poll-interval=PT1H",
+        "attendify.outbox.retry-delay=PT0S"
+})
+class RegistrationOutboxTest extends TestContainerConfig {
+
+    @TestConfiguration
+    static class RecordingHandlerConfig {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+
+    static class RecordingHandler implements RegistrationOutboxHandler {
+        final List<RegistrationMessage> received = new CopyOnWriteArrayList<>();
+        final AtomicBoolean failing = new AtomicBoolean();
+
+        @Override
+        public void handle(RegistrationMessage message) {
+            if (failing.get()) {
+                throw new IllegalStateException("Downstream unavailable");
+            }
+            received.add(message);
+        }
+    }
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventParticipantService eventParticipantService;
+
+    @Autowired
+    private RegistrationOutboxDispatcher dispatcher;
+
+    @Autowired
+    private RecordingHandler handler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("UPDATE registration_outbox SET status = 'DONE', processed_at = now() WHERE status <> 'DONE'");
+        handler.received.clear();
+        handler.failing.set(false);
+
+        Event event = new Event();
+        event.setName("Outbox test");
+        event.setDateTime(Instant.now().plus(7, ChronoUnit.DAYS));
+        event.setLocation("Tallinn");
+        eventId = eventService.createEvent(event).getId();
+    }
+
+    @Test
+    void registrationChanges_ShouldBeDeliveredByDispatcher() {
+        ParticipantDTO participant = new ParticipantDTO();
+        participant.setId(1L);
+        eventParticipantService.addParticipantToEvent(eventId, participant);
+        eventParticipantService.removeParticipantFromEvent(eventId, 1L);
+
+        assertTrue(handler.received.isEmpty());
+        assertEquals(2, dispatcher.dispatch());
+
+        assertEquals(2, handler.received.size());
+        assertEquals(RegistrationMessage.Type.REGISTERED, handler.received.get(0).type());
+        assertEquals(RegistrationMessage.Type.UNREGISTERED, handler.received.get(1).type());
+        handler.received.forEach(message -> {
+            assertEquals(eventId, message.eventId());
+            assertEquals(1L, message.participantId());
+        });
+        assertEquals(0, dispatcher.dispatch());
+    }
+
+    @Test
+    void removingAParticipantThatIsNotRegistered_ShouldNotQueueAnUnregistration() {
+        ParticipantDTO participant = new ParticipantDTO();
+        participant.setId(1L);
+        eventParticipantService.addParticipantToEvent(eventId, participant);
+        eventParticipantService.removeParticipantFromEvent(eventId, 1L);
+        eventParticipantService.removeParticipantFromEvent(eventId, 1L);
+
+        assertEquals(2, dispatcher.dispatch());
+        assertEquals(List.of(RegistrationMessage.Type.REGISTERED, RegistrationMessage.Type.UNREGISTERED),
+                handler.received.stream().map(RegistrationMessage::type).toList());
+    }
+
+    @Test
+    void failedDelivery_ShouldBeRetried() {
+        ParticipantDTO participant = new ParticipantDTO();
+        participant.setId(1L);
+        eventParticipantService.addParticipantsToEvent(eventId, List.of(participant));
+
+        handler.failing.set(true);
+        assertEquals(1, dispatcher.dispatch());
+        assertEquals("PENDING", jdbcTemplate.queryForObject(
+                "SELECT status FROM registration_outbox WHERE event_id = ?", String.class, eventId));
+
+        handler.failing.set(false);
+        assertEquals(1, dispatcher.dispatch());
+        assertEquals(1, handler.received.size());
+        assertEquals(2, handler.received.get(0).attempts());
+        assertEquals("DONE", jdbcTemplate.queryForObject(
+                "SELECT status FROM registration_outbox WHERE event_id = ?", String.class, eventId));
+    }
+}
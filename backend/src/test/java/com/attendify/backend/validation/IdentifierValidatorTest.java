@@ -0,0 +1,51 @@
+package com.attendify.backend.validation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentifierValidatorTest {
+
+    @Test
+    void checkPersonalCode_WithValidCodes_ShouldReturnNull() {
+        assertNull(IdentifierValidator.checkPersonalCode("39005270891"));
+        assertNull(IdentifierValidator.checkPersonalCode("48002093759"));
+        assertNull(IdentifierValidator.checkPersonalCode("60503123450"));
+        // 29 February 2000, a leap year
+        assertNull(IdentifierValidator.checkPersonalCode("50002299877"));
+    }
+
+    @Test
+    void checkPersonalCode_WithInvalidFormat_ShouldReturnFormatError() {
+        assertEquals(IdentifierValidator.PERSONAL_CODE_FORMAT, IdentifierValidator.checkPersonalCode(""));
+        assertEquals(IdentifierValidator.PERSONAL_CODE_FORMAT, IdentifierValidator.checkPersonalCode("3900527089"));
+        assertEquals(IdentifierValidator.PERSONAL_CODE_FORMAT, IdentifierValidator.checkPersonalCode("390052708911"));
+        assertEquals(IdentifierValidator.PERSONAL_CODE_FORMAT, IdentifierValidator.checkPersonalCode("3900527089a"));
+        assertEquals(IdentifierValidator.PERSONAL_CODE_FORMAT, IdentifierValidator.checkPersonalCode("79005270891"));
+        assertEquals(IdentifierValidator.PERSONAL_CODE_FORMAT, IdentifierValidator.checkPersonalCode("09005270891"));
+        assertEquals(IdentifierValidator.PERSONAL_CODE_NULL, IdentifierValidator.checkPersonalCode(null));
+    }
+
+    @Test
+    void checkPersonalCode_WithImpossibleBirthDate_ShouldReturnDateError() {
+        assertEquals(IdentifierValidator.PERSONAL_CODE_DATE, IdentifierValidator.checkPersonalCode("39013270891"));
+        assertEquals(IdentifierValidator.PERSONAL_CODE_DATE, IdentifierValidator.checkPersonalCode("39000270891"));
+        assertEquals(IdentifierValidator.PERSONAL_CODE_DATE, IdentifierValidator.checkPersonalCode("39004310891"));
+        assertEquals(IdentifierValidator.PERSONAL_CODE_DATE, IdentifierValidator.checkPersonalCode("39005000891"));
+        // 1900 was not a leap year
+        assertEquals(IdentifierValidator.PERSONAL_CODE_DATE, IdentifierValidator.checkPersonalCode("30002290891"));
+    }
+
+    @Test
+    void checkPersonalCode_WithWrongCheckDigit_ShouldReturnChecksumError() {
+        assertEquals(IdentifierValidator.PERSONAL_CODE_CHECKSUM, IdentifierValidator.checkPersonalCode("39005270890"));
+    }
+
+    @Test
+    void checkRegistrationCode_ShouldAcceptOnlyEightDigits() {
+        assertNull(IdentifierValidator.checkRegistrationCode("12345678"));
+        assertEquals(IdentifierValidator.REGISTRATION_CODE_FORMAT, IdentifierValidator.checkRegistrationCode("1234567"));
+        assertEquals(IdentifierValidator.REGISTRATION_CODE_FORMAT, IdentifierValidator.checkRegistrationCode("1234567a"));
+        assertEquals(IdentifierValidator.REGISTRATION_CODE_NULL, IdentifierValidator.checkRegistrationCode(null));
+    }
+}
@@ -1,7 +1,7 @@
 import {ComponentFixture, fakeAsync, flush, TestBed, tick} from '@angular/core/testing';
 import {EventListComponent} from './event-list.component';
 import {EventService} from '../../services/event.service';
-import {of, throwError} from 'rxjs';
+import {NEVER, of, throwError} from 'rxjs';
 import {EventData} from '../../models/event.model';
 import {HttpClientTestingModule} from '@angular/common/http/testing';
 import {signal} from '@angular/core';
@@ -35,8 +35,10 @@ describe('EventListComponent', () => {
       'fetchEvents',
       'getFutureEvents',
       'getPastEvents',
-      'removeEvent'
+      'removeEvent',
+      'watchEventCounts'
     ]);
+    mockEventService.watchEventCounts.and.returnValue(NEVER);
 
     await TestBed.configureTestingModule({
       imports: [
@@ -1,4 +1,5 @@
-import {Component, HostListener, OnInit, Signal, signal} from '@angular/core';
+import {Component, HostListener, OnDestroy, OnInit, Signal, signal} from '@angular/core';
+import {Subscription} from 'rxjs';
 import {CommonModule, NgOptimizedImage} from '@angular/common';
 import {RouterModule} from '@angular/router';
 import {EventData} from '../../models/event.model';
@@ -11,16 +12,23 @@ import {EventService} from '../../services/event.service';
   templateUrl: './event-list.component.html',
   styleUrls: ['./event-list.component.scss'],
 })
-export class EventListComponent implements OnInit {
+export class EventListComponent implements OnInit, OnDestroy {
   futureEvents: Signal<EventData[]> = signal<EventData[]>([]);
   pastEvents: Signal<EventData[]> = signal<EventData[]>([]);
   error = signal<string | null>(null);
   eventToDelete: EventData | null = null;
+  private countsSubscription?: Subscription;
   constructor(private eventService: EventService) {
   }
 
   ngOnInit(): void {
     this.loadEvents();
+    // Participant totals are pushed by the backend instead of being polled
+    this.countsSubscription = this.eventService.watchEventCounts().subscribe();
+  }
+
+  ngOnDestroy(): void {
+    this.countsSubscription?.unsubscribe();
   }
 
   private loadEvents(): void {
@@ -4,9 +4,19 @@ export interface EventData {
   name: string;
   dateTime: string;
   location?: string;
+  capacity?: number;
   totalParticipants: number;
   status: string;
   additionalInfo?: string;
   createdAt?: string;
   updatedAt?: string;
 }
+
+// Counts pushed on the /api/events/stream Server-Sent Events stream
+export interface EventCounts {
+  eventId: number;
+  capacity?: number | null;
+  totalParticipants: number;
+  registered: number;
+  attended: number;
+}
@@ -2,7 +2,7 @@ import { Injectable, signal } from '@angular/core';
 import { HttpClient, HttpErrorResponse } from '@angular/common/http';
 import { Observable, throwError } from 'rxjs';
 import { catchError, map, tap } from 'rxjs/operators';
-import { EventData } from '../models/event.model';
+import { EventCounts, EventData } from '../models/event.model';
 import { Participant } from '../models/participant.model';
 import { ConfigService } from './config.service';
 
@@ -43,6 +43,38 @@ export class EventService {
       );
   }
 
+  // Follow the counts the backend pushes over Server-Sent Events and apply them to both event lists.
+  // Replaces polling; unsubscribing closes the stream
+  watchEventCounts(): Observable<void> {
+    return new Observable<void>((subscriber) => {
+      const source = new EventSource(`${this.eventsApiUrl}/stream`);
+      let reconnecting = false;
+      source.addEventListener('counts', (message) => {
+        const counts: EventCounts[] = JSON.parse((message as MessageEvent).data);
+        const byId = new Map(counts.map((c) => [c.eventId, c]));
+        const apply = (events: EventData[]) =>
+          events.map((e) => {
+            const c = e.id === undefined ? undefined : byId.get(e.id);
+            return c ? { ...e, capacity: c.capacity ?? undefined, totalParticipants: c.totalParticipants } : e;
+          });
+        this.futureEvents.update(apply);
+        this.pastEvents.update(apply);
+        subscriber.next();
+      });
+      // Changes may have been missed while the stream was down
+      const reload = () => this.fetchEvents().subscribe({ error: () => void 0 });
+      source.addEventListener('resync', reload);
+      source.onerror = () => (reconnecting = true);
+      source.onopen = () => {
+        if (reconnecting) {
+          reconnecting = false;
+          reload();
+        }
+      };
+      return () => source.close();
+    });
+  }
+
   // Get event details by id (assuming the backend exposes GET /api/events/{id})
   getEvent(id: number): Observable<EventData> {
     const url = `${this.eventsApiUrl}/${id}`;